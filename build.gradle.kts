@@ -2,6 +2,7 @@ plugins {
     `java-library`
     `maven-publish`
     signing
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -27,6 +28,15 @@ tasks.withType<JavaCompile> {
     options.javaModuleVersion.set(provider { version as String })
 }
 
+// benchmarks in src/jmh/java, run with ./gradlew jmh (-PjmhInclude=<regex> to select)
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    findProperty("jmhInclude")?.let { includes.set(listOf(it as String)) }
+}
+
 tasks.withType<Test> {
     useJUnit()
     maxHeapSize = "1G"
@@ -37,6 +47,14 @@ java {
     withSourcesJar()
 }
 
+// the annotation processor is only registered as a service in this jar, so that compiling against the main jar
+// never runs it implicitly: annotationProcessor("io.github.domlen2003:no-error-4j:<version>:processor")
+val processorJar by tasks.registering(Jar::class) {
+    archiveClassifier.set("processor")
+    from(sourceSets.main.get().output)
+    from("src/processor/resources")
+}
+
 tasks.withType<Javadoc> {
     options.encoding = "UTF-8"
     options.quiet()
@@ -65,6 +83,7 @@ publishing {
     publications {
         register<MavenPublication>("gpr") {
             from(components["java"])
+            artifact(processorJar)
             pom {
                 name.set("No Error For Java")
                 description.set("Datatypes to reduce Java's error prone Null, Exceptions etc.")
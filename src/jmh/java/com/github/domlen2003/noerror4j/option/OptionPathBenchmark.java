@@ -0,0 +1,94 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads order.customer.address.city through OptionPaths and through the equivalent mapSome chain
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OptionPathBenchmark {
+    private static final OptionPath<Order, String> PROPERTY_PATH = OptionPath.of(Order.class, String.class, "customer.address.city");
+    private static final OptionPath<Order, String> FUNCTION_PATH = OptionPath.of(Order::getCustomer)
+            .then(Customer::getAddress)
+            .then(Address::getCity);
+
+    private Order order;
+    private Order incomplete;
+
+    @Setup
+    public void setup() {
+        order = new Order(new Customer(new Address("Hamburg")));
+        incomplete = new Order(new Customer(null));
+    }
+
+    @Benchmark
+    public Option<String> propertyPath() {
+        return PROPERTY_PATH.get(order);
+    }
+
+    @Benchmark
+    public Option<String> functionPath() {
+        return FUNCTION_PATH.get(order);
+    }
+
+    @Benchmark
+    public Option<String> mapSome() {
+        return Some.of(order).mapSome(Order::getCustomer).mapSome(Customer::getAddress).mapSome(Address::getCity);
+    }
+
+    @Benchmark
+    public Option<String> functionPathMissing() {
+        return FUNCTION_PATH.get(incomplete);
+    }
+
+    @Benchmark
+    public Option<String> mapSomeMissing() {
+        return Some.of(incomplete).mapSome(Order::getCustomer).mapSome(Customer::getAddress).mapSome(Address::getCity);
+    }
+
+    public static final class Order {
+        private final Customer customer;
+
+        Order(Customer customer) {
+            this.customer = customer;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+    }
+
+    public static final class Customer {
+        private final Address address;
+
+        Customer(Address address) {
+            this.address = address;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static final class Address {
+        private final String city;
+
+        Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+}
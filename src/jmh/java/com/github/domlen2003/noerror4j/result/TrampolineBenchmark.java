@@ -0,0 +1,67 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums 1..n with plain loops and with the equivalent recursive Trampoline chains
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrampolineBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public Result<Long> loop() {
+        long sum = 0;
+        for (long n = size; n > 0; n--) {
+            sum += n;
+        }
+        return Ok.of(sum);
+    }
+
+    // the iterative form of the same Result chain, one Ok per step
+    @Benchmark
+    public Result<Long> resultLoop() {
+        Result<Long> sum = Ok.of(0L);
+        for (long n = size; n > 0; n--) {
+            long step = n;
+            sum = sum.flatMapOk(value -> Ok.of(value + step));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Result<Long> suspend() {
+        return sum(size, 0).run();
+    }
+
+    @Benchmark
+    public Result<Long> flatMapOk() {
+        return sumFlatMap(size).run();
+    }
+
+    private static Trampoline<Long> sum(long n, long acc) {
+        if (n == 0) {
+            return Trampoline.ok(acc);
+        }
+        return Trampoline.suspend(() -> sum(n - 1, acc + n));
+    }
+
+    // not tail recursive, every step leaves a pending continuation
+    private static Trampoline<Long> sumFlatMap(long n) {
+        if (n == 0) {
+            return Trampoline.ok(0L);
+        }
+        return Trampoline.suspend(() -> sumFlatMap(n - 1)).mapOk(sum -> sum + n);
+    }
+}
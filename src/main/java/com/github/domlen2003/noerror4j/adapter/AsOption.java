@@ -0,0 +1,20 @@
+package com.github.domlen2003.noerror4j.adapter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes the adapter method generated for a method of a {@link ResultAdapter} interface return an
+ * {@link com.github.domlen2003.noerror4j.option.Option}
+ * <br><br>
+ * A null value becomes a {@link com.github.domlen2003.noerror4j.option.None}. A thrown exception also becomes a
+ * None and is sent to the error sink, like {@link com.github.domlen2003.noerror4j.result.Result#asOption()}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface AsOption {
+}
@@ -0,0 +1,40 @@
+package com.github.domlen2003.noerror4j.adapter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an adapter class for the annotated interface at compile time, with {@link ResultAdapterProcessor}
+ * <br><br>
+ * The adapter wraps an instance of the interface and has one method per interface method with the same
+ * parameters. Instead of returning a value or throwing, it returns a {@link com.github.domlen2003.noerror4j.result.Result}
+ * with the semantics of {@link com.github.domlen2003.noerror4j.result.Result#of(java.util.function.Supplier)}:
+ * a thrown exception or a null value becomes an {@link com.github.domlen2003.noerror4j.result.Err}.
+ * Methods returning void return a {@code Result<Boolean>} of {@code true} on success, methods returning primitives
+ * return a Result of the boxed type. Methods annotated with {@link AsOption} return an
+ * {@link com.github.domlen2003.noerror4j.option.Option} instead.
+ * <pre>{@code
+ * @ResultAdapter
+ * public interface UserStore {
+ *     User load(long id) throws IOException;
+ * }
+ *
+ * Result<User> user = new UserStoreResults(store).load(42);
+ * }</pre>
+ * The adapter is plain generated code without reflection or proxies.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ResultAdapter {
+
+    /**
+     * Gets the simple name of the generated class.
+     *
+     * @return the class name, by default the interface name followed by {@code Results}
+     */
+    String name() default "";
+}
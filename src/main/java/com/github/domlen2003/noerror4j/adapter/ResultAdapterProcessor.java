@@ -0,0 +1,279 @@
+package com.github.domlen2003.noerror4j.adapter;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Generates the adapter classes of interfaces annotated with {@link ResultAdapter}
+ * <br><br>
+ * The main jar does not register it as a service, so compiling against the library never runs it implicitly.
+ * It is enabled by putting the {@code processor} classifier of the library on the annotation processor path:
+ * <pre>{@code
+ * annotationProcessor("io.github.domlen2003:no-error-4j:<version>:processor")
+ * }</pre>
+ * or with plain javac by {@code -processor com.github.domlen2003.noerror4j.adapter.ResultAdapterProcessor}.
+ */
+@SupportedAnnotationTypes("com.github.domlen2003.noerror4j.adapter.ResultAdapter")
+public final class ResultAdapterProcessor extends AbstractProcessor {
+    private static final String RESULT = "com.github.domlen2003.noerror4j.result.Result";
+    private static final String OPTION = "com.github.domlen2003.noerror4j.option.Option";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ResultAdapter.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@ResultAdapter can only be applied to interfaces", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            String name = type.getAnnotation(ResultAdapter.class).name();
+            try {
+                generate(type, name.isEmpty() ? type.getSimpleName() + "Results" : name);
+            } catch (UnsupportedTypeException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate the adapter of " + type + ": " + e.getMessage(), e.method);
+            } catch (IllegalArgumentException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate the adapter of " + type + ": " + e.getMessage(), element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the adapter of " + type + ": " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, String adapterName) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String typeParameters = typeParameters(type.getTypeParameters());
+        String delegateType = type.getQualifiedName() + typeArguments(type.getTypeParameters());
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Result-returning adapter of {@link ").append(type.getQualifiedName()).append("}, generated by @ResultAdapter\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ResultAdapterProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(adapterName).append(typeParameters).append(" {\n")
+                .append("    private final ").append(delegateType).append(" delegate;\n\n")
+                .append("    public ").append(adapterName).append("(").append(delegateType).append(" delegate) {\n")
+                .append("        this.delegate = java.util.Objects.requireNonNull(delegate, \"delegate\");\n")
+                .append("    }\n\n")
+                .append("    public ").append(delegateType).append(" getDelegate() {\n")
+                .append("        return delegate;\n")
+                .append("    }\n");
+        for (ExecutableElement method : adaptedMethods(type)) {
+            try {
+                appendMethod(source, type, method);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedTypeException(e.getMessage(), method);
+            }
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? adapterName : packageName + "." + adapterName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Collects the methods to adapt, once per erased signature. A method declared by several superinterfaces is
+     * listed by getAllMembers once per declaration, the one with the most specific return type is kept.
+     */
+    private List<ExecutableElement> adaptedMethods(TypeElement type) {
+        Types types = processingEnv.getTypeUtils();
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getEnclosingElement().getKind() != ElementKind.INTERFACE || isObjectMethod(method)) {
+                continue;
+            }
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(declaredType, method);
+            StringJoiner signature = new StringJoiner(",", method.getSimpleName() + "(", ")");
+            for (TypeMirror parameterType : methodType.getParameterTypes()) {
+                signature.add(types.erasure(parameterType).toString());
+            }
+            methods.merge(signature.toString(), method, (kept, other) -> {
+                TypeMirror keptReturn = ((ExecutableType) types.asMemberOf(declaredType, kept)).getReturnType();
+                TypeMirror otherReturn = ((ExecutableType) types.asMemberOf(declaredType, other)).getReturnType();
+                return !types.isSameType(keptReturn, otherReturn) && types.isSubtype(otherReturn, keptReturn) ? other : kept;
+            });
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private void appendMethod(StringBuilder source, TypeElement type, ExecutableElement method) {
+        // resolves type variables of generic superinterfaces
+        ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), method);
+        TypeMirror returnType = methodType.getReturnType();
+        boolean isVoid = returnType.getKind() == TypeKind.VOID;
+        boolean asOption = method.getAnnotation(AsOption.class) != null;
+        String valueType = isVoid ? "java.lang.Boolean" : print(box(returnType));
+        String name = method.getSimpleName().toString();
+
+        StringJoiner parameters = new StringJoiner(", ");
+        StringJoiner arguments = new StringJoiner(", ");
+        List<? extends VariableElement> parameterElements = method.getParameters();
+        List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+        for (int i = 0; i < parameterElements.size(); i++) {
+            String parameterType = print(parameterTypes.get(i));
+            if (method.isVarArgs() && i == parameterElements.size() - 1) {
+                parameterType = print(((ArrayType) parameterTypes.get(i)).getComponentType()) + "...";
+            }
+            parameters.add("final " + parameterType + " " + parameterElements.get(i).getSimpleName());
+            arguments.add(parameterElements.get(i).getSimpleName());
+        }
+        String call = "this.delegate." + name + "(" + arguments + ")";
+        String typeParameters = typeParameters(method.getTypeParameters());
+
+        source.append("\n    public ").append(typeParameters.isEmpty() ? "" : typeParameters + " ")
+                .append(asOption ? OPTION : RESULT).append("<").append(valueType).append("> ")
+                .append(name).append("(").append(parameters).append(") {\n")
+                .append("        try {\n");
+        if (isVoid) {
+            source.append("            ").append(call).append(";\n")
+                    .append("            return ").append(asOption ? "com.github.domlen2003.noerror4j.option.Some" : "com.github.domlen2003.noerror4j.result.Ok")
+                    .append(".of(java.lang.Boolean.TRUE);\n");
+        } else if (asOption) {
+            source.append("            return com.github.domlen2003.noerror4j.option.Some.of(").append(call).append(");\n");
+        } else {
+            source.append("            ").append(valueType).append(" $value = ").append(call).append(";\n")
+                    .append("            return $value != null ?\n")
+                    .append("                    com.github.domlen2003.noerror4j.result.Ok.of($value) :\n")
+                    .append("                    com.github.domlen2003.noerror4j.result.Err.of(new java.lang.NullPointerException(\"")
+                    .append(type.getSimpleName()).append(".").append(name).append("() returned null\"));\n");
+        }
+        source.append("        } catch (java.lang.Throwable $error) {\n");
+        if (asOption) {
+            source.append("            return com.github.domlen2003.noerror4j.result.Err.<").append(valueType).append(">of($error).asOption();\n");
+        } else {
+            source.append("            return com.github.domlen2003.noerror4j.result.Err.of($error);\n");
+        }
+        source.append("        }\n")
+                .append("    }\n");
+    }
+
+    // an adapter method would clash with the one inherited from Object
+    private static boolean isObjectMethod(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameters = method.getParameters().size();
+        return parameters == 0 && (name.equals("toString") || name.equals("hashCode")) || parameters == 1 && name.equals("equals");
+    }
+
+    private TypeMirror box(TypeMirror type) {
+        return type.getKind().isPrimitive() ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType() : type;
+    }
+
+    private String typeParameters(List<? extends TypeParameterElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "<", ">");
+        for (TypeParameterElement parameter : parameters) {
+            List<String> bounds = new ArrayList<>();
+            for (TypeMirror bound : parameter.getBounds()) {
+                String printed = print(bound);
+                if (!printed.equals("java.lang.Object")) {
+                    bounds.add(printed);
+                }
+            }
+            joiner.add(parameter.getSimpleName() + (bounds.isEmpty() ? "" : " extends " + String.join(" & ", bounds)));
+        }
+        return joiner.toString();
+    }
+
+    private static String typeArguments(List<? extends TypeParameterElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "<", ">");
+        for (TypeParameterElement parameter : parameters) {
+            joiner.add(parameter.getSimpleName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Prints a type as source code, without its type annotations, which would not be valid in front of a
+     * qualified name
+     */
+    private String print(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                StringBuilder printed = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    StringJoiner joiner = new StringJoiner(", ", "<", ">");
+                    for (TypeMirror argument : declared.getTypeArguments()) {
+                        joiner.add(print(argument));
+                    }
+                    printed.append(joiner);
+                }
+                return printed.toString();
+            }
+            case ARRAY -> {
+                return print(((ArrayType) type).getComponentType()) + "[]";
+            }
+            case TYPEVAR -> {
+                return ((TypeVariable) type).asElement().getSimpleName().toString();
+            }
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + print(wildcard.getExtendsBound());
+                }
+                return wildcard.getSuperBound() != null ? "? super " + print(wildcard.getSuperBound()) : "?";
+            }
+            default -> {
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase();
+                }
+                // intersection, union and erroneous types have no source form usable here
+                throw new IllegalArgumentException("unsupported type " + type + " (" + type.getKind() + ")");
+            }
+        }
+    }
+
+    private static final class UnsupportedTypeException extends RuntimeException {
+        private final transient ExecutableElement method;
+
+        private UnsupportedTypeException(String message, ExecutableElement method) {
+            super(message, null, false, false);
+            this.method = method;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.domlen2003.noerror4j.collection;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Option;
+import com.github.domlen2003.noerror4j.option.Some;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * A hash map from primitive int keys to values, without boxing
+ * <br><br>
+ * Keys are kept in an int array and found by linear probing, the table is kept at most half full.
+ * A lookup neither boxes the key nor allocates on a miss: {@link #getOption(int)} returns {@link None#instance()},
+ * {@link #get(int)} and {@link #getOrElse(int, Object)} return the raw value.
+ * <pre>{@code
+ * IntObjectMap<User> users = new IntObjectMap<>();
+ * users.put(user.getId(), user);
+ * Option<User> user = users.getOption(id);
+ * }</pre>
+ * The map does not store null values, putting null removes the key. It is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+@SuppressWarnings("unused")
+public final class IntObjectMap<V> {
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    // null marks a free slot
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public IntObjectMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Creates a map with room for a number of entries before it grows
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public IntObjectMap(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > 1 << 29) {
+            throw new IllegalArgumentException("Expected size must be between 0 and 2^29: " + expectedSize);
+        }
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value of a key
+     *
+     * @param key the key
+     * @return the value or null if the key is absent
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Gets the value of a key as an Option
+     *
+     * @param key the key
+     * @return a {@link Some} of the value or the shared {@link None} if the key is absent
+     */
+    @NotNull
+    public Option<V> getOption(int key) {
+        V value = get(key);
+        return value != null ? Some.of(value) : None.instance();
+    }
+
+    @Contract("_, !null -> !null")
+    public V getOrElse(int key, @Nullable V other) {
+        V value = get(key);
+        return value != null ? value : other;
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates a value with a key
+     *
+     * @param key   the key
+     * @param value the value, null removes the key
+     * @return the previous value or null if the key was absent
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(int key, @Nullable V value) {
+        if (value == null) {
+            return remove(key);
+        }
+        int index = slot(key);
+        for (; values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (mask + 1) / 2) {
+            allocate((mask + 1) * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the value of a key, computing and storing it if the key is absent
+     *
+     * @param key      the key
+     * @param function the function computing the value, returning null leaves the key absent
+     * @return the present or computed value
+     */
+    @Nullable
+    public V computeIfAbsent(int key, @NotNull IntFunction<? extends @Nullable V> function) {
+        V value = get(key);
+        if (value == null) {
+            value = function.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes a key
+     *
+     * @param key the key
+     * @return the removed value or null if the key was absent
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        size--;
+        // shift the following entries of the probe sequence back instead of leaving a tombstone
+        int gap = index;
+        for (int current = (gap + 1) & mask; values[current] != null; current = (current + 1) & mask) {
+            int home = slot(keys[current]);
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Calls the consumer for each entry, in no particular order
+     *
+     * @param consumer the consumer of the keys and values
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+
+    private int indexOf(int key) {
+        for (int index = slot(key); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        if (oldValues != null) {
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = slot(oldKeys[i]);
+                    while (values[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * A consumer of the entries of an {@link IntObjectMap}
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+}
@@ -0,0 +1,241 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent computations for one dependency
+ * <br><br>
+ * Permits are taken from a lock-free counter. When all permits are in use, a call either waits in a short,
+ * bounded queue for at most the configured time, or is rejected right away with a preallocated {@link Err}
+ * of a {@link BulkheadFullException}, so a slow dependency cannot take every thread of a pool.
+ * <pre>{@code
+ * private static final Bulkhead INVENTORY = Bulkhead.of("inventory", 16);
+ *
+ * Result<Stock> stock = INVENTORY.call(() -> inventoryClient.fetch(sku));
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class Bulkhead {
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+    private final Err<?> rejection;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejected = new LongAdder();
+
+    private Bulkhead(@NotNull String name, int maxConcurrent, int maxWaiting, long maxWaitNanos) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWaitNanos;
+        this.rejection = Err.of(new BulkheadFullException(name));
+    }
+
+    /**
+     * Creates a bulkhead that rejects immediately when full
+     *
+     * @param name          the name of the bulkhead, used in the rejection error
+     * @param maxConcurrent the maximum number of concurrent calls
+     * @return the new Bulkhead
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static Bulkhead of(@NotNull String name, int maxConcurrent) {
+        return of(name, maxConcurrent, 0, Duration.ZERO);
+    }
+
+    /**
+     * Creates a bulkhead with a bounded wait queue
+     *
+     * @param name          the name of the bulkhead, used in the rejection error
+     * @param maxConcurrent the maximum number of concurrent calls
+     * @param maxWaiting    the maximum number of calls waiting for a permit, further calls are rejected immediately
+     * @param maxWait       the maximum time a call waits for a permit before it is rejected
+     * @return the new Bulkhead
+     */
+    @NotNull
+    @Contract("_, _, _, _ -> new")
+    public static Bulkhead of(@NotNull String name, int maxConcurrent, int maxWaiting, @NotNull Duration maxWait) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        if (maxWaiting < 0) {
+            throw new IllegalArgumentException("maxWaiting must not be negative: " + maxWaiting);
+        }
+        return new Bulkhead(name, maxConcurrent, maxWaiting, maxWait.toNanos());
+    }
+
+    /**
+     * Runs a supplier with the semantics of {@link Result#of(Supplier)} if a permit is available
+     *
+     * @param supplier the supplier to get the value from
+     * @return the result, or the preallocated rejection {@link Err} if the bulkhead is full
+     */
+    @NotNull
+    public <T> Result<T> call(@Nullable Supplier<@Nullable T> supplier) {
+        if (!acquire()) {
+            return rejection();
+        }
+        try {
+            return Result.of(supplier);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs a Result-producing supplier if a permit is available
+     *
+     * @param supplier the supplier to get the result from
+     * @return the result, or the preallocated rejection {@link Err} if the bulkhead is full
+     */
+    @NotNull
+    public <T> Result<T> flatCall(@Nullable Supplier<@Nullable Result<T>> supplier) {
+        if (supplier == null) {
+            return Err.of(new NullPointerException("Supplier for Bulkhead.flatCall(supplier) is null"));
+        }
+        if (!acquire()) {
+            return rejection();
+        }
+        try {
+            Result<T> result = supplier.get();
+            return result != null ? result : Err.of(new NullPointerException("Supplier for Bulkhead.flatCall(supplier) returned null"));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            release();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> rejection() {
+        rejected.increment();
+        return (Result<T>) rejection;
+    }
+
+    private boolean acquire() {
+        if (tryAcquire()) {
+            return true;
+        }
+        if (maxWaiting == 0 || maxWaitNanos <= 0) {
+            return false;
+        }
+        for (int current = waiting.get(); ; current = waiting.get()) {
+            if (current >= maxWaiting) {
+                return false;
+            }
+            if (waiting.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        Thread thread = Thread.currentThread();
+        waiters.add(thread);
+        try {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (true) {
+                if (tryAcquire()) {
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || thread.isInterrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            waiters.remove(thread);
+            waiting.decrementAndGet();
+            // a release may have unparked this thread after it already took a permit (or gave up), pass the
+            // wakeup on so the next waiter does not sleep until its deadline while a permit is free
+            signalNext();
+        }
+    }
+
+    private boolean tryAcquire() {
+        for (int current = inFlight.get(); current < maxConcurrent; current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        signalNext();
+    }
+
+    private void signalNext() {
+        if (waiting.get() > 0 && inFlight.get() < maxConcurrent) {
+            Thread next = waiters.peek();
+            if (next != null) {
+                LockSupport.unpark(next);
+            }
+        }
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Gets the number of calls currently holding a permit.
+     *
+     * @return the in-flight calls
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of calls currently waiting for a permit.
+     *
+     * @return the waiting calls
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Gets the share of permits in use.
+     *
+     * @return the saturation between 0.0 and 1.0
+     */
+    public double getSaturation() {
+        return (double) inFlight.get() / maxConcurrent;
+    }
+
+    /**
+     * Gets the number of calls rejected since the bulkhead was created.
+     *
+     * @return the rejection count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead[" + name + ", inFlight=" + getInFlight() + "/" + maxConcurrent + ", waiting=" + getWaiting() + ", rejected=" + getRejectedCount() + "]";
+    }
+}
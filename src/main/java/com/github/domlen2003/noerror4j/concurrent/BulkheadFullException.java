@@ -0,0 +1,29 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The error of a call rejected by a full {@link Bulkhead}.
+ * <br><br>
+ * One instance is preallocated per bulkhead and shared by all rejections, so it has neither a stack trace
+ * nor suppressed exceptions.
+ */
+@SuppressWarnings("unused")
+public final class BulkheadFullException extends RuntimeException {
+    private final String bulkhead;
+
+    BulkheadFullException(@NotNull String bulkhead) {
+        super("Bulkhead '" + bulkhead + "' is full", null, false, false);
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Gets the name of the rejecting bulkhead.
+     *
+     * @return the bulkhead name
+     */
+    @NotNull
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
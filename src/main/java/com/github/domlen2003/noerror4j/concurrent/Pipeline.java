@@ -0,0 +1,372 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A multi-stage {@link Result#flatMapOk(Function)} chain in which every stage runs on its own thread
+ * <br><br>
+ * Stages are connected by bounded {@link SpscRingBuffer}s. An {@link Err} produced by any stage skips the remaining
+ * stages and goes straight to the sink through a dedicated buffer. Each stage drains its input in batches.
+ * A full buffer blocks its producer (back-pressure), so memory stays bounded.
+ * <pre>{@code
+ * Pipeline<Order, Invoice> pipeline = Pipeline.<Order>stages()
+ *         .then("validate", this::validate)
+ *         .then("price", this::price)
+ *         .then("invoice", this::invoice)
+ *         .start(result -> result.doOnOk(invoices::add).doOnErr(log::warn), 1024, 64);
+ * orders.forEach(pipeline::submit);
+ * pipeline.close();
+ * pipeline.awaitTermination(Duration.ofMinutes(1));
+ * }</pre>
+ * {@link #submit(Object)} must only be called from one thread at a time.
+ * Results of different inputs may reach the sink out of order, as Errs overtake the remaining stages.
+ *
+ * @param <I> the type of the inputs
+ * @param <O> the value type of the Results reaching the sink
+ */
+@SuppressWarnings("unused")
+public final class Pipeline<I, O> {
+    private final List<Worker> workers;
+    private final Thread sinkThread;
+    private final SpscRingBuffer<Object> input;
+    private final SpscRingBuffer<Result<?>> output;
+    private final List<SpscRingBuffer<Result<?>>> bypasses;
+    private volatile boolean closed;
+    // submits between their check of closed and their offer, the first stage only finishes once none is left
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    private Pipeline(Stages<I, O> stages, Consumer<? super Result<O>> sink, int capacity, int batchSize, BiFunction<String, Runnable, Thread> threads) {
+        int count = stages.names.size();
+        this.input = new SpscRingBuffer<>(capacity);
+        this.output = new SpscRingBuffer<>(capacity);
+        this.bypasses = new ArrayList<>(count);
+        this.workers = new ArrayList<>(count);
+        SpscRingBuffer<Object> in = input;
+        for (int i = 0; i < count; i++) {
+            boolean last = i == count - 1;
+            SpscRingBuffer<Object> out = last ? null : new SpscRingBuffer<>(capacity);
+            SpscRingBuffer<Result<?>> bypass = last ? null : new SpscRingBuffer<>(capacity);
+            if (bypass != null) {
+                bypasses.add(bypass);
+            }
+            Worker upstream = i == 0 ? null : workers.get(i - 1);
+            workers.add(new Worker(stages.names.get(i), stages.functions.get(i), in, out, bypass, upstream, batchSize, threads));
+            in = out;
+        }
+        this.sinkThread = threads.apply("sink", () -> runSink(sink, batchSize));
+    }
+
+    /**
+     * Starts the definition of a pipeline
+     *
+     * @return a definition without stages
+     */
+    @NotNull
+    @Contract("-> new")
+    public static <I> Stages<I, I> stages() {
+        return new Stages<>(List.of(), List.of());
+    }
+
+    /**
+     * Submits an input, waiting while the first buffer is full
+     *
+     * @param item the input
+     * @return false if the pipeline is closed or the calling thread was interrupted
+     */
+    public boolean submit(@NotNull I item) {
+        submitting.incrementAndGet();
+        try {
+            for (int idle = 0; !closed; idle++) {
+                if (input.offer(item)) {
+                    return true;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                idle(idle);
+            }
+            return false;
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Submits an input if the first buffer has room
+     *
+     * @param item the input
+     * @return false if the pipeline is closed or full
+     */
+    public boolean trySubmit(@NotNull I item) {
+        submitting.incrementAndGet();
+        try {
+            return !closed && input.offer(item);
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting inputs, the submitted ones are still processed
+     * <br><br>
+     * May be called from any thread, a concurrent {@link #submit(Object)} either returns false or its input is processed.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Waits until every submitted input reached the sink, after {@link #close()}
+     *
+     * @param timeout the maximum time to wait
+     * @return true if the pipeline terminated
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(@NotNull Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Worker worker : workers) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            worker.thread.join(Math.max(1, remaining));
+        }
+        sinkThread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        return !sinkThread.isAlive();
+    }
+
+    /**
+     * Gets the number of items waiting in front of each stage and of the sink.
+     *
+     * @return the queue depths by stage name in pipeline order, the sink is named "sink"
+     */
+    @NotNull
+    public Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        for (Worker worker : workers) {
+            depths.put(worker.name, worker.in.size());
+        }
+        int sinkDepth = output.size();
+        for (SpscRingBuffer<Result<?>> bypass : bypasses) {
+            sinkDepth += bypass.size();
+        }
+        depths.put("sink", sinkDepth);
+        return Collections.unmodifiableMap(depths);
+    }
+
+    private Pipeline<I, O> start() {
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        sinkThread.start();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runSink(Consumer<? super Result<O>> sink, int batchSize) {
+        Result<?>[] batch = new Result<?>[batchSize];
+        Worker last = workers.get(workers.size() - 1);
+        for (int idle = 0; ; ) {
+            boolean done = last.done;
+            int drained = 0;
+            for (SpscRingBuffer<Result<?>> bypass : bypasses) {
+                drained += deliver(sink, bypass, batch);
+            }
+            drained += deliver(sink, output, batch);
+            if (drained > 0) {
+                idle = 0;
+            } else if (done) {
+                return;
+            } else {
+                idle(idle++);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int deliver(Consumer<? super Result<O>> sink, SpscRingBuffer<Result<?>> buffer, Result<?>[] batch) {
+        int count = buffer.drainTo(batch, batch.length);
+        for (int i = 0; i < count; i++) {
+            try {
+                sink.accept((Result<O>) batch[i]);
+            } catch (Throwable throwable) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+            batch[i] = null;
+        }
+        return count;
+    }
+
+    private static void idle(int idleCount) {
+        if (idleCount < 64) {
+            Thread.onSpinWait();
+        } else if (idleCount < 128) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(50_000L);
+        }
+    }
+
+    private final class Worker {
+        private final String name;
+        private final Function<Object, Result<?>> function;
+        private final SpscRingBuffer<Object> in;
+        private final SpscRingBuffer<Object> out;
+        private final SpscRingBuffer<Result<?>> bypass;
+        private final Worker upstream;
+        private final Thread thread;
+        private volatile boolean done;
+
+        private Worker(String name, Function<Object, Result<?>> function, SpscRingBuffer<Object> in, SpscRingBuffer<Object> out,
+                       SpscRingBuffer<Result<?>> bypass, Worker upstream, int batchSize, BiFunction<String, Runnable, Thread> threads) {
+            this.name = name;
+            this.function = function;
+            this.in = in;
+            this.out = out;
+            this.bypass = bypass;
+            this.upstream = upstream;
+            this.thread = threads.apply(name, () -> run(batchSize));
+        }
+
+        private void run(int batchSize) {
+            Object[] batch = new Object[batchSize];
+            for (int idle = 0; ; ) {
+                // closed before submitting: a submit counted after this read sees closed and offers nothing
+                boolean upstreamDone = upstream == null ? closed && submitting.get() == 0 : upstream.done;
+                int count = in.drainTo(batch, batchSize);
+                if (count == 0) {
+                    if (upstreamDone) {
+                        done = true;
+                        return;
+                    }
+                    idle(idle++);
+                    continue;
+                }
+                idle = 0;
+                for (int i = 0; i < count; i++) {
+                    Result<?> result = apply(batch[i]);
+                    batch[i] = null;
+                    if (out == null) {
+                        put(output, result);
+                    } else if (result instanceof Ok<?> ok) {
+                        put(out, ok.getValue());
+                    } else {
+                        put(bypass, result);
+                    }
+                }
+            }
+        }
+
+        private Result<?> apply(Object item) {
+            try {
+                Result<?> result = function.apply(item);
+                return result != null ? result : Err.of(new NullPointerException("Stage '" + name + "' of Pipeline returned null"));
+            } catch (Throwable throwable) {
+                return Err.of(throwable);
+            }
+        }
+
+        private <E> void put(SpscRingBuffer<E> buffer, E element) {
+            for (int idle = 0; !buffer.offer(element); idle++) {
+                idle(idle);
+            }
+        }
+    }
+
+    /**
+     * The immutable definition of a pipeline's stages
+     *
+     * @param <I> the type of the inputs
+     * @param <O> the value type of the last stage's Results
+     */
+    public static final class Stages<I, O> {
+        private final List<String> names;
+        private final List<Function<Object, Result<?>>> functions;
+
+        private Stages(List<String> names, List<Function<Object, Result<?>>> functions) {
+            this.names = names;
+            this.functions = functions;
+        }
+
+        /**
+         * Appends a stage
+         *
+         * @param name     the name of the stage, used for its queue depth and, with the default thread factory, its thread
+         * @param function the function of the stage, applied to the value of the previous stage's {@link Ok}
+         * @return a new definition including the stage
+         */
+        @NotNull
+        @Contract("_, _ -> new")
+        @SuppressWarnings("unchecked")
+        public <R> Stages<I, R> then(@NotNull String name, @NotNull Function<? super @NotNull O, ? extends @Nullable Result<R>> function) {
+            List<String> names = new ArrayList<>(this.names);
+            List<Function<Object, Result<?>>> functions = new ArrayList<>(this.functions);
+            names.add(name);
+            functions.add((Function<Object, Result<?>>) (Function<?, ?>) function);
+            return new Stages<>(List.copyOf(names), List.copyOf(functions));
+        }
+
+        /**
+         * Starts a pipeline on daemon threads named {@code pipeline-<stage>} and {@code pipeline-sink}
+         *
+         * @param sink      the consumer of every Result, called from a single thread
+         * @param capacity  the capacity of each buffer between stages
+         * @param batchSize the maximum number of items a stage takes from its input at once
+         * @return the running pipeline
+         */
+        @NotNull
+        @Contract("_, _, _ -> new")
+        public Pipeline<I, O> start(@NotNull Consumer<? super Result<O>> sink, int capacity, int batchSize) {
+            return start(sink, capacity, batchSize, (name, runnable) -> {
+                Thread thread = new Thread(runnable, "pipeline-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        /**
+         * Starts a pipeline
+         *
+         * @param sink          the consumer of every Result, called from a single thread
+         * @param capacity      the capacity of each buffer between stages
+         * @param batchSize     the maximum number of items a stage takes from its input at once
+         * @param threadFactory the factory of the stage and sink threads, which keep the names it gives them
+         * @return the running pipeline
+         */
+        @NotNull
+        @Contract("_, _, _, _ -> new")
+        public Pipeline<I, O> start(@NotNull Consumer<? super Result<O>> sink, int capacity, int batchSize, @NotNull ThreadFactory threadFactory) {
+            return start(sink, capacity, batchSize, (name, runnable) -> threadFactory.newThread(runnable));
+        }
+
+        /**
+         * @param threads creates the thread of a stage or of the sink, named "sink", from its name and task
+         */
+        private Pipeline<I, O> start(Consumer<? super Result<O>> sink, int capacity, int batchSize, BiFunction<String, Runnable, Thread> threads) {
+            if (names.isEmpty()) {
+                throw new IllegalStateException("A pipeline needs at least one stage");
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            return new Pipeline<>(this, sink, capacity, batchSize, threads).start();
+        }
+    }
+}
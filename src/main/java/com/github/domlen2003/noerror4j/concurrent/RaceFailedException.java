@@ -0,0 +1,14 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+/**
+ * The error of a race in {@link Races} in which every attempt failed.
+ * <br><br>
+ * The error of each attempt is attached as a suppressed exception, in the order the attempts failed.
+ * It does not capture a stack trace of its own, the attempts' errors already carry theirs.
+ */
+public final class RaceFailedException extends RuntimeException {
+
+    RaceFailedException(int attempts) {
+        super("All " + attempts + (attempts == 1 ? " attempt" : " attempts") + " failed", null, true, false);
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Races Result-producing suppliers against each other to cut tail latency
+ * <br><br>
+ * The first {@link Ok} wins and the attempts still running are cancelled (interrupted).
+ * If every attempt fails, the race completes with an {@link Err} of a {@link RaceFailedException}
+ * carrying every attempt's error as a suppressed exception.
+ * <pre>{@code
+ * CompletableFuture<Result<Row>> row = Races.firstOk(executor, List.of(
+ *         () -> replicaA.read(key),
+ *         () -> replicaB.read(key)
+ * ));
+ * CompletableFuture<Result<Row>> hedged = Races.hedged(executor, () -> replicas.next().read(key), Duration.ofMillis(20));
+ * }</pre>
+ * Cancelling the returned future cancels all attempts.
+ */
+@SuppressWarnings("unused")
+public final class Races {
+
+    private Races() {
+    }
+
+    /**
+     * Starts all suppliers at once and completes with the first {@link Ok}
+     *
+     * @param executor  the executor to run the attempts on
+     * @param suppliers the competing attempts
+     * @return a future of the first Ok, or of an Err with all failures
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <T> CompletableFuture<Result<T>> firstOk(@NotNull Executor executor,
+                                                           @NotNull List<? extends @NotNull Supplier<@Nullable Result<T>>> suppliers) {
+        Race<T> race = new Race<>(executor, new ArrayList<>(suppliers), false);
+        if (suppliers.isEmpty()) {
+            race.promise.complete(Err.of(new RaceFailedException(0)));
+        }
+        for (int i = 0; i < suppliers.size(); i++) {
+            race.start(i);
+        }
+        return race.promise;
+    }
+
+    /**
+     * Starts the supplier and, if it has not succeeded within the delay, a second (backup) attempt of it
+     * <br><br>
+     * The backup also starts right away if the first attempt fails before the delay.
+     *
+     * @param executor the executor to run the attempts on
+     * @param supplier the attempt, usually choosing a different replica per call
+     * @param delay    the time to wait for the first attempt before hedging
+     * @return a future of the first Ok, or of an Err with both failures
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static <T> CompletableFuture<Result<T>> hedged(@NotNull Executor executor,
+                                                          @NotNull Supplier<@Nullable Result<T>> supplier,
+                                                          @NotNull Duration delay) {
+        long delayNanos = delay.toNanos();
+        return hedged(executor, supplier, () -> delayNanos);
+    }
+
+    /**
+     * Starts the supplier and, if it has not succeeded within the delay, a second (backup) attempt of it
+     * <br><br>
+     * The delay is evaluated once per call, so it can follow an observed latency percentile of the dependency.
+     * The backup also starts right away if the first attempt fails before the delay.
+     *
+     * @param executor   the executor to run the attempts on
+     * @param supplier   the attempt, usually choosing a different replica per call
+     * @param delayNanos the supplier of the time to wait for the first attempt before hedging, in nanoseconds
+     * @return a future of the first Ok, or of an Err with both failures
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static <T> CompletableFuture<Result<T>> hedged(@NotNull Executor executor,
+                                                          @NotNull Supplier<@Nullable Result<T>> supplier,
+                                                          @NotNull LongSupplier delayNanos) {
+        Race<T> race = new Race<>(executor, List.of(supplier, supplier), true);
+        race.start(0);
+        Executor delayed = CompletableFuture.delayedExecutor(Math.max(0, delayNanos.getAsLong()), TimeUnit.NANOSECONDS);
+        delayed.execute(() -> {
+            if (!race.promise.isDone()) {
+                race.start(1);
+            }
+        });
+        return race.promise;
+    }
+
+    private static final class Race<T> {
+        private final CompletableFuture<Result<T>> promise = new CompletableFuture<>();
+        private final Executor executor;
+        private final List<? extends Supplier<Result<T>>> attempts;
+        private final boolean startNextOnFailure;
+        private final AtomicReferenceArray<FutureTask<Void>> tasks;
+        private final AtomicInteger failed = new AtomicInteger();
+        // the thread running each attempt, so the completing thread never interrupts itself
+        private final AtomicReferenceArray<Thread> runners;
+        private final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        private Race(Executor executor, List<? extends Supplier<Result<T>>> attempts, boolean startNextOnFailure) {
+            this.executor = executor;
+            this.attempts = attempts;
+            this.startNextOnFailure = startNextOnFailure;
+            this.tasks = new AtomicReferenceArray<>(attempts.size());
+            this.runners = new AtomicReferenceArray<>(attempts.size());
+            promise.whenComplete((result, throwable) -> cancelAll());
+        }
+
+        private void start(int index) {
+            Supplier<Result<T>> attempt = attempts.get(index);
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                runners.set(index, Thread.currentThread());
+                try {
+                    complete(index, run(attempt));
+                } finally {
+                    runners.set(index, null);
+                }
+            }, null);
+            if (!tasks.compareAndSet(index, null, task)) {
+                return;
+            }
+            if (promise.isDone()) {
+                task.cancel(false);
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (Throwable throwable) {
+                complete(index, Err.of(throwable));
+            }
+        }
+
+        private Result<T> run(Supplier<Result<T>> attempt) {
+            try {
+                Result<T> result = attempt.get();
+                return result != null ? result : Err.of(new NullPointerException("Supplier of race returned null"));
+            } catch (Throwable throwable) {
+                return Err.of(throwable);
+            }
+        }
+
+        private void complete(int index, Result<T> result) {
+            if (result instanceof Ok<T>) {
+                promise.complete(result);
+                return;
+            }
+            errors.add(((Err<T>) result).getError());
+            if (failed.incrementAndGet() == attempts.size()) {
+                RaceFailedException exception = new RaceFailedException(attempts.size());
+                for (Throwable error : errors) {
+                    exception.addSuppressed(error);
+                }
+                promise.complete(Err.of(exception));
+            } else if (startNextOnFailure) {
+                for (int i = 0; i < attempts.size(); i++) {
+                    if (tasks.get(i) == null) {
+                        start(i);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void cancelAll() {
+            for (int i = 0; i < tasks.length(); i++) {
+                FutureTask<Void> task = tasks.get(i);
+                if (task != null) {
+                    // attempts on the completing thread (e.g. with a direct executor) only lose their pending state
+                    task.cancel(runners.get(i) != Thread.currentThread());
+                }
+            }
+        }
+    }
+}
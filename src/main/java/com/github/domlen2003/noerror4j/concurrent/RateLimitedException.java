@@ -0,0 +1,29 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The error of a call rejected by a {@link RateLimiter} without a free token.
+ * <br><br>
+ * One instance is preallocated per rate limiter and shared by all rejections, so it has neither a stack trace
+ * nor suppressed exceptions.
+ */
+@SuppressWarnings("unused")
+public final class RateLimitedException extends RuntimeException {
+    private final String rateLimiter;
+
+    RateLimitedException(@NotNull String rateLimiter) {
+        super("Rate limiter '" + rateLimiter + "' has no free token", null, false, false);
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Gets the name of the rejecting rate limiter.
+     *
+     * @return the rate limiter name
+     */
+    @NotNull
+    public String getRateLimiter() {
+        return rateLimiter;
+    }
+}
@@ -0,0 +1,215 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free token bucket limiting the rate of calls
+ * <br><br>
+ * The bucket is kept as a single virtual timestamp (the time at which it would be full again) that is advanced
+ * with a CAS per taken token, so tokens refill continuously without a background thread.
+ * A throttled call is rejected with a preallocated {@link Err} of a {@link RateLimitedException}, no exception is thrown.
+ * <pre>{@code
+ * private static final RateLimiter PARTNER = RateLimiter.of("partner", 50, 10);
+ *
+ * Result<Quote> quote = PARTNER.call(() -> partnerClient.quote(request));
+ * Result<Quote> patient = PARTNER.call(() -> partnerClient.quote(request), Duration.ofMillis(200));
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class RateLimiter {
+    private final String name;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final Err<?> rejection;
+    private final AtomicLong fullAt;
+    private final LongAdder rejected = new LongAdder();
+
+    RateLimiter(@NotNull String name, double permitsPerSecond, int burst, @NotNull LongSupplier clock) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+        this.name = name;
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.clock = clock;
+        this.rejection = Err.of(new RateLimitedException(name));
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Creates a rate limiter that starts with a full bucket
+     *
+     * @param name             the name of the rate limiter, used in the rejection error
+     * @param permitsPerSecond the rate at which tokens refill
+     * @param burst            the capacity of the bucket, i.e. how many calls may happen at once
+     * @return the new RateLimiter
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static RateLimiter of(@NotNull String name, double permitsPerSecond, int burst) {
+        return new RateLimiter(name, permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Takes a token if one is available, never blocks
+     *
+     * @return true if a token was taken
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * Takes a token, waiting for it if it becomes available within the given time
+     * <br><br>
+     * If the thread is interrupted while waiting, the reserved token is given back and the interrupt flag stays set.
+     *
+     * @param maxWait the maximum time to wait
+     * @return true if a token was taken, false if none was available in time or the thread was interrupted
+     */
+    public boolean tryAcquire(@NotNull Duration maxWait) {
+        long wait = reserve(maxWait.toNanos());
+        if (wait < 0) {
+            return false;
+        }
+        // the token is reserved, parkNanos may return early so wait out the rest
+        long deadline = System.nanoTime() + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+            // parkNanos returns at once while interrupted, do not spin until the deadline
+            if (Thread.currentThread().isInterrupted()) {
+                fullAt.addAndGet(-intervalNanos);
+                return false;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Reserves the next token if it is available within maxWaitNanos
+     *
+     * @return the nanos to wait before the token may be used, or -1 if the wait would be too long
+     */
+    private long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(wait, 0);
+            }
+        }
+    }
+
+    /**
+     * Runs a supplier with the semantics of {@link Result#of(Supplier)} if a token is available
+     *
+     * @param supplier the supplier to get the value from
+     * @return the result, or the preallocated rejection {@link Err} if no token is available
+     */
+    @NotNull
+    public <T> Result<T> call(@Nullable Supplier<@Nullable T> supplier) {
+        return tryAcquire() ? Result.of(supplier) : rejection();
+    }
+
+    /**
+     * Runs a supplier with the semantics of {@link Result#of(Supplier)} if a token becomes available in time
+     *
+     * @param supplier the supplier to get the value from
+     * @param maxWait  the maximum time to wait for a token
+     * @return the result, or the preallocated rejection {@link Err} if no token is available in time or the thread is interrupted
+     */
+    @NotNull
+    public <T> Result<T> call(@Nullable Supplier<@Nullable T> supplier, @NotNull Duration maxWait) {
+        return tryAcquire(maxWait) ? Result.of(supplier) : rejection();
+    }
+
+    /**
+     * Runs a Result-producing supplier if a token is available
+     *
+     * @param supplier the supplier to get the result from
+     * @return the result, or the preallocated rejection {@link Err} if no token is available
+     */
+    @NotNull
+    public <T> Result<T> flatCall(@Nullable Supplier<@Nullable Result<T>> supplier) {
+        return tryAcquire() ? flatten(supplier) : rejection();
+    }
+
+    /**
+     * Runs a Result-producing supplier if a token becomes available in time
+     *
+     * @param supplier the supplier to get the result from
+     * @param maxWait  the maximum time to wait for a token
+     * @return the result, or the preallocated rejection {@link Err} if no token is available in time or the thread is interrupted
+     */
+    @NotNull
+    public <T> Result<T> flatCall(@Nullable Supplier<@Nullable Result<T>> supplier, @NotNull Duration maxWait) {
+        return tryAcquire(maxWait) ? flatten(supplier) : rejection();
+    }
+
+    private static <T> Result<T> flatten(Supplier<Result<T>> supplier) {
+        if (supplier == null) {
+            return Err.of(new NullPointerException("Supplier for RateLimiter.flatCall(supplier) is null"));
+        }
+        try {
+            Result<T> result = supplier.get();
+            return result != null ? result : Err.of(new NullPointerException("Supplier for RateLimiter.flatCall(supplier) returned null"));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> rejection() {
+        rejected.increment();
+        return (Result<T>) rejection;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of tokens currently in the bucket.
+     *
+     * @return the available tokens
+     */
+    public int getAvailableTokens() {
+        long debt = fullAt.get() - clock.getAsLong();
+        return (int) Math.max(0, (burstNanos - Math.max(debt, 0)) / intervalNanos);
+    }
+
+    /**
+     * Gets the number of calls rejected since the rate limiter was created.
+     *
+     * @return the rejection count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[" + name + ", available=" + getAvailableTokens() + ", rejected=" + getRejectedCount() + "]";
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A bounded, lock-free single-producer/single-consumer queue
+ * <br><br>
+ * Exactly one thread may call {@link #offer(Object)} and exactly one (other) thread may call {@link #poll()}.
+ * Indices are published with release/acquire semantics and each side caches the other side's index, so a
+ * transfer usually costs one plain array write and one ordered store, without locks or node allocation.
+ * The indices of both sides are padded to separate cache lines, so the two threads do not invalidate each
+ * other's cache line on every transfer (false sharing).
+ *
+ * @param <E> the type of the elements
+ */
+@SuppressWarnings("unused")
+public final class SpscRingBuffer<E> extends SpscRingBufferTail {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRingBufferHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscRingBufferTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * Creates a ring buffer
+     *
+     * @param capacity the minimum capacity, rounded up to the next power of two
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element, producer side only
+     *
+     * @param element the element to add
+     * @return false if the buffer is full
+     */
+    public boolean offer(@NotNull E element) {
+        long currentTail = tail;
+        if (currentTail - cachedHead >= buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (currentTail - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element, consumer side only
+     *
+     * @return the element or null if the buffer is empty
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long currentHead = head;
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to limit elements into an array, consumer side only, publishing the consumption once
+     *
+     * @param target the array to drain into, starting at index 0
+     * @param limit  the maximum number of elements to drain
+     * @return the number of drained elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(@NotNull E[] target, int limit) {
+        long currentHead = head;
+        long available = cachedTail - currentHead;
+        if (available < limit) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            available = cachedTail - currentHead;
+        }
+        int count = (int) Math.min(Math.min(available, limit), target.length);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (currentHead + i) & mask;
+            target[i] = (E) buffer[index];
+            buffer[index] = null;
+        }
+        if (count > 0) {
+            HEAD.setRelease(this, currentHead + count);
+        }
+        return count;
+    }
+
+    /**
+     * Gets a snapshot of the number of elements, safe from any thread.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+        return (int) Math.max(0, currentTail - currentHead);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+}
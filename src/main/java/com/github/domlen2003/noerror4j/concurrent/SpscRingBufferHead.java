@@ -0,0 +1,13 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+/**
+ * The consumer side fields of a {@link SpscRingBuffer}, padded on both sides to a cache line of their own.
+ * Superclass fields are laid out before subclass fields, so the padding survives the JVM's field reordering.
+ */
+abstract class SpscRingBufferHead {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    // written by the consumer only
+    long head;
+    long cachedTail;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
@@ -0,0 +1,11 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+/**
+ * The producer side fields of a {@link SpscRingBuffer}, on a cache line apart from the consumer side
+ */
+abstract class SpscRingBufferTail extends SpscRingBufferHead {
+    // written by the producer only
+    long tail;
+    long cachedHead;
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,243 @@
+package com.github.domlen2003.noerror4j.incremental;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A graph of Results derived from each other, recomputed incrementally
+ * <br><br>
+ * {@link Input}s are set from outside, every other {@link Node} is a Result-producing function of the nodes it
+ * was created from. After inputs changed, {@link #recompute()} only runs the nodes downstream of them, level by
+ * level, and stops at nodes whose value did not change. An {@link Err} is passed on to the dependents without
+ * running their functions.
+ * <pre>{@code
+ * Graph graph = new Graph();
+ * Input<Double> price = graph.input("price", 100.0);
+ * Input<Double> rate = graph.input("rate", 0.19);
+ * Node<Double> tax = graph.node("tax", price, rate, (p, r) -> Ok.of(p * r));
+ * Node<Double> total = graph.node("total", price, tax, (p, t) -> Ok.of(p + t));
+ *
+ * rate.set(0.07);
+ * graph.recompute(); // runs tax and total
+ * }</pre>
+ * A graph is not thread-safe, {@link #recompute(Executor)} runs the nodes of a level in parallel itself.
+ * Nodes can only depend on existing nodes, so a graph is always acyclic.
+ */
+@SuppressWarnings("unused")
+public final class Graph {
+    private final List<Node<?>> nodes = new ArrayList<>();
+    // nodes waiting for recomputation, by level
+    private final List<List<Node<?>>> scheduled = new ArrayList<>();
+    private final Set<Input<?>> changedInputs = new LinkedHashSet<>();
+
+    /**
+     * Adds an input
+     *
+     * @param name  the name of the input
+     * @param value the initial value, null creates an {@link Err}
+     * @return the input
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public <T> Input<T> input(@NotNull String name, @Nullable T value) {
+        return input(name, value != null ? Ok.of(value) : Err.of(new NullPointerException("Value of input '" + name + "' is null")));
+    }
+
+    /**
+     * Adds an input
+     *
+     * @param name  the name of the input
+     * @param value the initial value, null creates an {@link Err}
+     * @return the input
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public <T> Input<T> input(@NotNull String name, @Nullable Result<T> value) {
+        Input<T> input = new Input<>(this, name, value != null ? value : Err.of(new NullPointerException("Value of input '" + name + "' is null")));
+        nodes.add(input);
+        return input;
+    }
+
+    /**
+     * Adds a node derived from one other node and computes it
+     *
+     * @param name     the name of the node
+     * @param a        the dependency
+     * @param function the function of the dependency's value
+     * @return the node
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    @SuppressWarnings("unchecked")
+    public <A, T> Node<T> node(@NotNull String name, @NotNull Node<A> a,
+                               @NotNull Function<? super @NotNull A, ? extends @Nullable Result<T>> function) {
+        return add(name, List.of(a), () -> function.apply(((Ok<A>) a.get()).getValue()));
+    }
+
+    /**
+     * Adds a node derived from two other nodes and computes it
+     *
+     * @param name     the name of the node
+     * @param a        the first dependency
+     * @param b        the second dependency
+     * @param function the function of the dependencies' values
+     * @return the node
+     */
+    @NotNull
+    @Contract("_, _, _, _ -> new")
+    @SuppressWarnings("unchecked")
+    public <A, B, T> Node<T> node(@NotNull String name, @NotNull Node<A> a, @NotNull Node<B> b,
+                                  @NotNull BiFunction<? super @NotNull A, ? super @NotNull B, ? extends @Nullable Result<T>> function) {
+        return add(name, List.of(a, b), () -> function.apply(((Ok<A>) a.get()).getValue(), ((Ok<B>) b.get()).getValue()));
+    }
+
+    /**
+     * Adds a node derived from any number of other nodes and computes it
+     *
+     * @param name         the name of the node
+     * @param dependencies the dependencies
+     * @param function     the function of the dependencies' values, in the order of the dependencies
+     * @return the node
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public <T> Node<T> node(@NotNull String name, @NotNull List<? extends Node<?>> dependencies,
+                            @NotNull Function<? super List<Object>, ? extends @Nullable Result<T>> function) {
+        List<Node<?>> copy = List.copyOf(dependencies);
+        return add(name, copy, () -> {
+            List<Object> values = new ArrayList<>(copy.size());
+            for (Node<?> dependency : copy) {
+                values.add(((Ok<?>) dependency.get()).getValue());
+            }
+            return function.apply(values);
+        });
+    }
+
+    /**
+     * Recomputes the nodes downstream of the inputs set since the last recomputation
+     *
+     * @return the number of nodes whose function ran or whose dependency's Err was passed on
+     */
+    public int recompute() {
+        return recompute(null);
+    }
+
+    /**
+     * Recomputes the nodes downstream of the inputs set since the last recomputation, running the nodes of a
+     * level in parallel
+     *
+     * @param executor the executor to run the nodes of a level on, null runs them on the calling thread
+     * @return the number of nodes whose function ran or whose dependency's Err was passed on
+     */
+    public int recompute(@Nullable Executor executor) {
+        for (Input<?> input : changedInputs) {
+            schedule(input.dependents);
+        }
+        changedInputs.clear();
+        int recomputed = 0;
+        for (int level = 1; level < scheduled.size(); level++) {
+            List<Node<?>> pending = scheduled.get(level);
+            if (pending.isEmpty()) {
+                continue;
+            }
+            boolean[] changed = run(pending, executor);
+            for (int i = 0; i < pending.size(); i++) {
+                Node<?> node = pending.get(i);
+                node.scheduled = false;
+                // dependents are on higher levels, so they still get their turn in this pass
+                if (changed[i]) {
+                    schedule(node.dependents);
+                }
+            }
+            recomputed += pending.size();
+            pending.clear();
+        }
+        return recomputed;
+    }
+
+    /**
+     * Checks if inputs were set since the last recomputation.
+     *
+     * @return true if {@link #recompute()} has work to do
+     */
+    public boolean isStale() {
+        return !changedInputs.isEmpty();
+    }
+
+    /**
+     * Gets the number of nodes, including inputs.
+     *
+     * @return the node count
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    void changed(Input<?> input) {
+        changedInputs.add(input);
+    }
+
+    private <T> Node<T> add(String name, List<Node<?>> dependencies, Supplier<Result<T>> function) {
+        for (Node<?> dependency : dependencies) {
+            if (dependency.graph != this) {
+                throw new IllegalArgumentException("Dependency '" + dependency.getName() + "' of node '" + name + "' belongs to another graph");
+            }
+        }
+        Node<T> node = new Node<>(this, name, dependencies, function);
+        for (Node<?> dependency : dependencies) {
+            dependency.dependents.add(node);
+        }
+        node.recompute();
+        nodes.add(node);
+        return node;
+    }
+
+    private void schedule(List<Node<?>> dependents) {
+        for (Node<?> dependent : dependents) {
+            if (!dependent.scheduled) {
+                dependent.scheduled = true;
+                while (scheduled.size() <= dependent.getLevel()) {
+                    scheduled.add(new ArrayList<>());
+                }
+                scheduled.get(dependent.getLevel()).add(dependent);
+            }
+        }
+    }
+
+    private static boolean[] run(List<Node<?>> pending, Executor executor) {
+        boolean[] changed = new boolean[pending.size()];
+        if (executor == null || pending.size() == 1) {
+            for (int i = 0; i < pending.size(); i++) {
+                changed[i] = pending.get(i).recompute();
+            }
+            return changed;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            int index = i;
+            try {
+                futures[i] = CompletableFuture.runAsync(() -> changed[index] = pending.get(index).recompute(), executor);
+            } catch (Throwable rejected) {
+                changed[index] = pending.get(index).recompute();
+                futures[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        // recompute() never throws, join only waits for the level
+        CompletableFuture.allOf(futures).join();
+        return changed;
+    }
+}
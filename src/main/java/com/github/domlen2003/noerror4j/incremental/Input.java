@@ -0,0 +1,48 @@
+package com.github.domlen2003.noerror4j.incremental;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A value of a {@link Graph} that is set from outside
+ *
+ * @param <T> the value type of the input's Result
+ */
+@SuppressWarnings("unused")
+public final class Input<T> extends Node<T> {
+
+    Input(Graph graph, String name, Result<T> initial) {
+        super(graph, name, List.of(), () -> initial);
+        update(initial);
+    }
+
+    /**
+     * Sets the value, the dependents are recomputed by the next {@link Graph#recompute()}
+     *
+     * @param value the new value, null sets an {@link Err}
+     */
+    public void set(@Nullable T value) {
+        set(value != null ? Ok.of(value) : Err.of(new NullPointerException("Value of input '" + getName() + "' is null")));
+    }
+
+    /**
+     * Sets the value, the dependents are recomputed by the next {@link Graph#recompute()}
+     *
+     * @param value the new value, null sets an {@link Err}
+     */
+    public void set(@Nullable Result<T> value) {
+        Result<T> result = value != null ? value : Err.of(new NullPointerException("Value of input '" + getName() + "' is null"));
+        if (update(result)) {
+            graph.changed(this);
+        }
+    }
+
+    @Override
+    boolean recompute() {
+        return false;
+    }
+}
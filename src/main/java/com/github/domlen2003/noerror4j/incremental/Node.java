@@ -0,0 +1,109 @@
+package com.github.domlen2003.noerror4j.incremental;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value of a {@link Graph}, derived from other nodes
+ *
+ * @param <T> the value type of the node's Result
+ */
+@SuppressWarnings("unused")
+public sealed class Node<T> permits Input {
+    final Graph graph;
+    final List<Node<?>> dependencies;
+    final List<Node<?>> dependents = new ArrayList<>();
+    private final String name;
+    private final int level;
+    private final Supplier<Result<T>> function;
+    private volatile Result<T> value;
+    // set while the node waits for recomputation in the current pass
+    boolean scheduled;
+
+    Node(Graph graph, String name, List<Node<?>> dependencies, Supplier<Result<T>> function) {
+        this.graph = graph;
+        this.name = name;
+        this.dependencies = dependencies;
+        this.function = function;
+        int maxLevel = -1;
+        for (Node<?> dependency : dependencies) {
+            maxLevel = Math.max(maxLevel, dependency.level);
+        }
+        this.level = maxLevel + 1;
+    }
+
+    /**
+     * Gets the value as of the last {@link Graph#recompute()}.
+     *
+     * @return the value, an {@link Err} if the function failed or a dependency is an Err
+     */
+    @NotNull
+    public Result<T> get() {
+        return value;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the topological level, 0 for inputs and one more than the highest dependency otherwise.
+     *
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    @NotNull
+    @Unmodifiable
+    public List<Node<?>> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public String toString() {
+        return "Node[" + name + "=" + value + "]";
+    }
+
+    /**
+     * Recomputes the value, an Err of a dependency is passed on without running the function
+     *
+     * @return true if the value changed
+     */
+    @SuppressWarnings("unchecked")
+    boolean recompute() {
+        Result<T> result = null;
+        for (Node<?> dependency : dependencies) {
+            if (dependency.value instanceof Err<?> err) {
+                result = (Result<T>) err;
+                break;
+            }
+        }
+        if (result == null) {
+            try {
+                result = function.get();
+                if (result == null) {
+                    result = Err.of(new NullPointerException("Function of node '" + name + "' returned null"));
+                }
+            } catch (Throwable throwable) {
+                result = Err.of(throwable);
+            }
+        }
+        return update(result);
+    }
+
+    boolean update(Result<T> result) {
+        Result<T> previous = value;
+        value = result;
+        return !Objects.equals(previous, result);
+    }
+}
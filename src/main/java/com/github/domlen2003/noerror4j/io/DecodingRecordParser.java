@@ -0,0 +1,39 @@
+package com.github.domlen2003.noerror4j.io;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.Function;
+
+/**
+ * A {@link RecordParser} decoding each record with one reused decoder, see {@link RecordParser#decoding(Charset, Function)}
+ */
+final class DecodingRecordParser<T> implements RecordParser<T> {
+    private final Charset charset;
+    private final Function<@NotNull CharSequence, @Nullable T> parser;
+    private final CharsetDecoder decoder;
+
+    DecodingRecordParser(@NotNull Charset charset, @NotNull Function<@NotNull CharSequence, @Nullable T> parser) {
+        this.charset = charset;
+        this.parser = parser;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    @Override
+    public T parse(@NotNull ByteBuffer record) throws Exception {
+        // decode(ByteBuffer) resets the decoder itself
+        return parser.apply(decoder.decode(record));
+    }
+
+    @NotNull
+    @Override
+    public RecordParser<T> fork() {
+        return new DecodingRecordParser<>(charset, parser);
+    }
+}
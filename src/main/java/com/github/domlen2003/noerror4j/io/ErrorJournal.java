@@ -0,0 +1,363 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent journal of sunk errors in a memory-mapped, fixed-size file
+ * <br><br>
+ * The file is a ring of equally sized slots. Each accepted error becomes one binary record of its time, thread,
+ * sink message, exception class, exception message and a stack trace truncated to the slot. Writers reserve slots
+ * with an atomic counter and write into the mapping directly, so journaling takes neither a lock nor a system call.
+ * Once the ring is full, the oldest records are overwritten. A record's sequence number is published last and
+ * the record carries a CRC, so a record torn by a crash is skipped by {@link #read(Path)}.
+ * <pre>{@code
+ * ErrorJournal journal = ((Ok<ErrorJournal>) ErrorJournal.open(Path.of("errors.journal"), 512, 4096)).getValue();
+ * Result.setErrorSink(journal.andThen((message, error) -> log.warn(message, error)));
+ * ...
+ * ErrorJournal.read(Path.of("errors.journal")).doOnOk(entries -> entries.forEach(System.out::println));
+ * }</pre>
+ * Reopening a journal continues after its newest record.
+ */
+@SuppressWarnings("unused")
+public final class ErrorJournal implements BiConsumer<String, Throwable>, AutoCloseable {
+    private static final int MAGIC = 0x4E45524A;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    // slot layout: sequence (8), payload length (4), payload CRC (4), payload
+    private static final int SLOT_HEADER_SIZE = 16;
+    private static final int MIN_SLOT_SIZE = 64;
+    private static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotSize;
+    private final int slotCount;
+    private final AtomicLong nextSequence;
+    private volatile boolean closed;
+
+    private ErrorJournal(Path path, FileChannel channel, MappedByteBuffer buffer, int slotSize, int slotCount, long nextSequence) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slotSize = slotSize;
+        this.slotCount = slotCount;
+        this.nextSequence = new AtomicLong(nextSequence);
+    }
+
+    /**
+     * Opens a journal, creating the file if needed
+     *
+     * @param path      the journal file
+     * @param slotSize  the size of each record in bytes, a multiple of 8 and at least 64
+     * @param slotCount the number of records kept before the oldest are overwritten
+     * @return the journal or an {@link Err} if the file could not be mapped or has a different layout
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<ErrorJournal> open(@Nullable Path path, int slotSize, int slotCount) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ErrorJournal.open(path, slotSize, slotCount) is null"));
+        }
+        if (slotSize < MIN_SLOT_SIZE || slotSize % 8 != 0 || slotCount < 1) {
+            return Err.of(new IllegalArgumentException("Invalid journal layout: slotSize=" + slotSize + ", slotCount=" + slotCount));
+        }
+        long fileSize = HEADER_SIZE + (long) slotSize * slotCount;
+        if (fileSize > Integer.MAX_VALUE) {
+            return Err.of(new IllegalArgumentException("Journal of " + fileSize + " bytes exceeds 2GiB"));
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean fresh = channel.size() == 0;
+            if (!fresh && channel.size() != fileSize) {
+                throw new IOException("Journal " + path + " has " + channel.size() + " bytes, expected " + fileSize);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (fresh) {
+                buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, slotSize).putInt(12, slotCount);
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != slotSize || buffer.getInt(12) != slotCount) {
+                throw new IOException("Journal " + path + " has a different layout");
+            }
+            long newest = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                newest = Math.max(newest, buffer.getLong(HEADER_SIZE + slot * slotSize));
+            }
+            return Ok.of(new ErrorJournal(path, channel, buffer, slotSize, slotCount, newest + 1));
+        } catch (Throwable throwable) {
+            closeQuietly(channel);
+            return Err.of(throwable);
+        }
+    }
+
+    /**
+     * Reads the intact records of a journal, e.g. after a crash
+     *
+     * @param path the journal file
+     * @return the records, oldest first, or an {@link Err} if the file is not a journal
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<List<Entry>> read(@Nullable Path path) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ErrorJournal.read(path) is null"));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Journal " + path + " is truncated");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read the whole file
+            }
+            int slotSize = buffer.getInt(8);
+            int slotCount = buffer.getInt(12);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || HEADER_SIZE + (long) slotSize * slotCount != buffer.capacity()) {
+                throw new IOException("File " + path + " is not a journal");
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (int slot = 0; slot < slotCount; slot++) {
+                Entry entry = Entry.decode(buffer, HEADER_SIZE + slot * slotSize, slotSize);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort(Comparator.comparingLong(Entry::getSequence));
+            return Ok.of(Collections.unmodifiableList(entries));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+
+    /**
+     * Appends a record of the error, never throws
+     *
+     * @param message the message passed to the error sink
+     * @param error   the sunk error
+     */
+    @Override
+    public void accept(@Nullable String message, @Nullable Throwable error) {
+        if (closed) {
+            return;
+        }
+        try {
+            long sequence = nextSequence.getAndIncrement();
+            int offset = HEADER_SIZE + (int) ((sequence - 1) % slotCount) * slotSize;
+            byte[] payload = encode(message, error);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            // invalidate the slot first, so a crash mid-write leaves no valid record behind
+            SEQUENCE.setOpaque(buffer, offset, 0L);
+            VarHandle.storeStoreFence();
+            buffer.putInt(offset + 8, payload.length);
+            buffer.putInt(offset + 12, (int) crc.getValue());
+            buffer.put(offset + SLOT_HEADER_SIZE, payload);
+            SEQUENCE.setRelease(buffer, offset, sequence);
+        } catch (Throwable ignored) {
+            // a journal must never fail the operation reporting the error
+        }
+    }
+
+    /**
+     * Writes the mapped records to the storage device, the operating system does so eventually on its own.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Gets the number of records written since the file was created
+     *
+     * @return the record count, including overwritten records
+     */
+    public long getRecordCount() {
+        return nextSequence.get() - 1;
+    }
+
+    @NotNull
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            buffer.force();
+            closeQuietly(channel);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorJournal[" + path + ", " + slotCount + " x " + slotSize + " bytes]";
+    }
+
+    private byte[] encode(String message, Throwable error) {
+        ByteBuffer payload = ByteBuffer.allocate(slotSize - SLOT_HEADER_SIZE);
+        payload.putLong(System.currentTimeMillis());
+        putString(payload, Thread.currentThread().getName(), 4);
+        putString(payload, message, 3);
+        putString(payload, error != null ? error.getClass().getName() : null, 2);
+        putString(payload, error != null ? error.getMessage() : null, 1);
+        StringBuilder trace = new StringBuilder();
+        if (error != null) {
+            for (StackTraceElement element : error.getStackTrace()) {
+                // the trace is cut at the slot size anyway
+                if (trace.length() >= payload.remaining()) {
+                    break;
+                }
+                trace.append(element).append('\n');
+            }
+        }
+        putString(payload, trace.toString(), 0);
+        byte[] bytes = new byte[payload.position()];
+        payload.flip().get(bytes);
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer payload, String value, int following) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        // keep room for the length prefixes of the following strings
+        int length = Math.max(0, Math.min(Math.min(bytes.length, 0xFFFF), payload.remaining() - 2 - 2 * following));
+        payload.putShort((short) length).put(bytes, 0, length);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+    }
+
+    /**
+     * A record read from a journal
+     */
+    public static final class Entry {
+        private final long sequence;
+        private final Instant timestamp;
+        private final String thread;
+        private final String message;
+        private final String exceptionClass;
+        private final String exceptionMessage;
+        private final String trace;
+
+        private Entry(long sequence, Instant timestamp, String thread, String message, String exceptionClass, String exceptionMessage, String trace) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.thread = thread;
+            this.message = message;
+            this.exceptionClass = exceptionClass;
+            this.exceptionMessage = exceptionMessage;
+            this.trace = trace;
+        }
+
+        private static Entry decode(ByteBuffer buffer, int offset, int slotSize) {
+            long sequence = buffer.getLong(offset);
+            int length = buffer.getInt(offset + 8);
+            if (sequence <= 0 || length < 8 || length > slotSize - SLOT_HEADER_SIZE) {
+                return null;
+            }
+            ByteBuffer payload = buffer.slice(offset + SLOT_HEADER_SIZE, length);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(offset + 12)) {
+                return null;
+            }
+            try {
+                return new Entry(sequence, Instant.ofEpochMilli(payload.getLong()), getString(payload), getString(payload),
+                        getString(payload), getString(payload), getString(payload));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static String getString(ByteBuffer payload) {
+            int length = Short.toUnsignedInt(payload.getShort());
+            byte[] bytes = new byte[length];
+            payload.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Gets the number of the record, increasing in the order the records were reserved.
+         *
+         * @return the sequence number, starting at 1
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        @NotNull
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        @NotNull
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * Gets the message passed to the error sink, describing the operation that dropped the error.
+         *
+         * @return the sink message
+         */
+        @NotNull
+        public String getMessage() {
+            return message;
+        }
+
+        @NotNull
+        public String getExceptionClass() {
+            return exceptionClass;
+        }
+
+        @NotNull
+        public String getExceptionMessage() {
+            return exceptionMessage;
+        }
+
+        /**
+         * Gets the stack trace of the error, one frame per line and truncated to the slot size.
+         *
+         * @return the truncated trace, empty for errors without a stack trace
+         */
+        @NotNull
+        public String getTrace() {
+            return trace;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + sequence + " " + timestamp + " [" + thread + "] " + message + ": " + exceptionClass + ": " + exceptionMessage;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.domlen2003.noerror4j.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The error of a {@link ResultFiles} operation that was rejected by a check instead of failing with a thrown
+ * exception, e.g. a missing file or a malformed byte sequence.
+ * <br><br>
+ * It does not capture a stack trace, the path and reason identify the failure.
+ */
+@SuppressWarnings("unused")
+public final class FileOperationException extends IOException {
+    private final transient Path path;
+
+    FileOperationException(@NotNull Path path, @NotNull String reason) {
+        super(path + ": " + reason);
+        this.path = path;
+    }
+
+    /**
+     * Gets the path of the file the operation failed on.
+     *
+     * @return the path
+     */
+    @NotNull
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.domlen2003.noerror4j.io;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The error of a record that could not be read or parsed by a {@link RecordReader}.
+ * <br><br>
+ * It does not capture a stack trace of its own, the position in the file is what identifies the failure.
+ * The line number of a record read by a split of a parallel stream is only counted when it is first asked for.
+ */
+@SuppressWarnings("unused")
+public final class RecordException extends RuntimeException {
+    private final transient LongSupplier lineSupplier;
+    private final long offset;
+    private final String reason;
+    private volatile long line;
+
+    RecordException(@NotNull LongSupplier line, long offset, @Nullable String reason, @Nullable Throwable cause) {
+        super(null, cause, true, false);
+        this.lineSupplier = line;
+        this.offset = offset;
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the 1-based line (record) number of the failed record.
+     *
+     * @return the line number, or -1 if it could not be counted
+     */
+    public long getLine() {
+        long current = line;
+        if (current == 0) {
+            try {
+                current = lineSupplier.getAsLong();
+            } catch (Throwable throwable) {
+                current = -1;
+            }
+            line = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the byte offset of the failed record's start in the file.
+     *
+     * @return the offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Record at line " + getLine() + " (offset " + offset + ")" + (reason != null ? ": " + reason : "");
+    }
+}
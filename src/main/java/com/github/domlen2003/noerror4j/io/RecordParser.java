@@ -0,0 +1,55 @@
+package com.github.domlen2003.noerror4j.io;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
+/**
+ * Parses a single record read by a {@link RecordReader}
+ *
+ * @param <T> the type of the parsed record
+ */
+@FunctionalInterface
+public interface RecordParser<T> {
+
+    /**
+     * Creates a parser that decodes each record before parsing it.
+     * <br><br>
+     * Malformed or unmappable bytes fail the record instead of being replaced. Each part of a stream reuses one
+     * decoder for all of its records.
+     *
+     * @param charset the charset of the file
+     * @param parser  the function to parse the decoded record
+     * @return the parser
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    static <T> RecordParser<T> decoding(@NotNull Charset charset, @NotNull Function<@NotNull CharSequence, @Nullable T> parser) {
+        return new DecodingRecordParser<>(charset, parser);
+    }
+
+    /**
+     * Parses a record.
+     *
+     * @param record a read-only view of the record's bytes (without the delimiter), only valid during the call
+     * @return the parsed value, null is treated as an error
+     * @throws Exception if the record is malformed
+     */
+    @Nullable
+    T parse(@NotNull ByteBuffer record) throws Exception;
+
+    /**
+     * Gets a parser for one part of a {@link RecordReader} stream, parts of a parallel stream run on different
+     * threads. A parser with state that is not thread-safe (e.g. a reused decoder) returns a new instance.
+     *
+     * @return this parser, or a new instance sharing no mutable state with it
+     */
+    @NotNull
+    default RecordParser<T> fork() {
+        return this;
+    }
+}
@@ -0,0 +1,345 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a delimited file record by record through memory-mapped windows of the file
+ * <br><br>
+ * Every record becomes its own {@link Result}: a record that fails to parse becomes an {@link Err} of a
+ * {@link RecordException} with its line number and byte offset and does not abort the import.
+ * Records are handed to the {@link RecordParser} as read-only views of the mapped bytes, nothing is copied into
+ * Strings unless the parser decodes the record itself.
+ * <pre>{@code
+ * try (RecordReader reader = ((Ok<RecordReader>) RecordReader.open(path)).getValue()) {
+ *     long failed = reader.stream(RecordParser.decoding(UTF_8, Order::parse))
+ *             .parallel()
+ *             .filter(result -> !result.isPresent())
+ *             .count();
+ * }
+ * }</pre>
+ * The stream splits at record boundaries, so it can be processed in parallel. Splitting does not scan the file,
+ * the line number of a split's records is only counted when a {@link RecordException#getLine()} needs it.
+ */
+@SuppressWarnings("unused")
+public final class RecordReader implements AutoCloseable {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int SAMPLE_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final byte delimiter;
+    private final int windowSize;
+    // line numbers of the record starting at an offset, filled in on demand for split points
+    private final ConcurrentSkipListMap<Long, Long> lines = new ConcurrentSkipListMap<>(Map.of(0L, 1L));
+    private volatile double bytesPerRecord;
+
+    RecordReader(@NotNull Path path, @NotNull FileChannel channel, long size, byte delimiter, int windowSize) {
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.delimiter = delimiter;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens a newline delimited file, a trailing carriage return of a record is dropped
+     *
+     * @param path the file to read
+     * @return the reader or an {@link Err} if the file could not be opened
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<RecordReader> open(@Nullable Path path) {
+        return open(path, (byte) '\n');
+    }
+
+    /**
+     * Opens a file of records separated by a single byte delimiter
+     *
+     * @param path      the file to read
+     * @param delimiter the byte separating the records
+     * @return the reader or an {@link Err} if the file could not be opened
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static Result<RecordReader> open(@Nullable Path path, byte delimiter) {
+        return open(path, delimiter, DEFAULT_WINDOW_SIZE);
+    }
+
+    @NotNull
+    static Result<RecordReader> open(@Nullable Path path, byte delimiter, int windowSize) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for RecordReader.open(path) is null"));
+        }
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            return Ok.of(new RecordReader(path, channel, channel.size(), delimiter, windowSize));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+
+    /**
+     * Gets the size of the file in bytes.
+     *
+     * @return the file size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Streams the parsed records of the file
+     *
+     * @param parser the parser for each record
+     * @return a stream with one Result per record, in file order unless processed in parallel
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <T> Stream<Result<T>> stream(@NotNull RecordParser<T> parser) {
+        return StreamSupport.stream(new RecordSpliterator<>(parser, 0, size, 0, 0), false);
+    }
+
+    /**
+     * Parses the records of the file one after another
+     *
+     * @param parser   the parser for each record
+     * @param consumer the consumer to send the Result of each record to
+     */
+    public <T> void forEach(@NotNull RecordParser<T> parser, @NotNull Consumer<? super Result<T>> consumer) {
+        RecordSpliterator<T> spliterator = new RecordSpliterator<>(parser, 0, size, 0, 0);
+        //noinspection StatementWithEmptyBody
+        while (spliterator.tryAdvance(consumer)) {
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Gets the line of a record on demand, capturing only this reader and not the spliterator with its mapped window,
+     * as a {@link RecordException} may be kept long after reading
+     *
+     * @param origin  the offset of a record whose line can be counted
+     * @param ordinal the number of records between that record and the failed one
+     */
+    private LongSupplier lineOf(long origin, long ordinal) {
+        return () -> lineAt(origin) + ordinal;
+    }
+
+    /**
+     * Counts the line of the record starting at an offset, from the closest offset counted before
+     */
+    private long lineAt(long offset) {
+        Map.Entry<Long, Long> known = lines.floorEntry(offset);
+        if (known.getKey() == offset) {
+            return known.getValue();
+        }
+        long line = known.getValue();
+        // a channel of its own, the error may be inspected after the reader was closed
+        try (FileChannel counting = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SAMPLE_SIZE);
+            long scan = known.getKey();
+            while (scan < offset) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), offset - scan));
+                int read = counting.read(buffer, scan);
+                if (read < 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == delimiter) {
+                        line++;
+                    }
+                }
+                scan += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lines.put(offset, line);
+        return line;
+    }
+
+    /**
+     * Estimates the average record length from the start of the file, for the size estimates of the stream
+     */
+    private double bytesPerRecord() {
+        double current = bytesPerRecord;
+        if (current == 0) {
+            current = 1;
+            try {
+                ByteBuffer sample = ByteBuffer.allocate((int) Math.min(SAMPLE_SIZE, Math.max(1, size)));
+                int read = channel.read(sample, 0);
+                int records = 0;
+                for (int i = 0; i < read; i++) {
+                    if (sample.get(i) == delimiter) {
+                        records++;
+                    }
+                }
+                current = read <= 0 ? 1 : (double) read / Math.max(1, records);
+            } catch (IOException ignored) {
+                // the estimate stays one record per byte
+            }
+            bytesPerRecord = current;
+        }
+        return current;
+    }
+
+    /**
+     * Traverses the records starting in the byte range [position, end).
+     * Each instance maps its own windows, so split instances can run on different threads.
+     */
+    private final class RecordSpliterator<T> implements Spliterator<Result<T>> {
+        private final RecordParser<T> source;
+        private final RecordParser<T> parser;
+        private long position;
+        private long end;
+        // records are numbered relative to the record starting at origin, whose line is counted on demand
+        private long origin;
+        private long ordinal;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        private RecordSpliterator(RecordParser<T> source, long position, long end, long origin, long ordinal) {
+            this.source = source;
+            this.parser = source.fork();
+            this.position = position;
+            this.end = end;
+            this.origin = origin;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Result<T>> action) {
+            if (position >= end) {
+                return false;
+            }
+            long start = position;
+            long recordOrdinal = ordinal++;
+            Result<T> result;
+            try {
+                long delimiterAt = find(start, size);
+                position = delimiterAt + 1;
+                long recordEnd = delimiterAt;
+                if (delimiter == '\n' && recordEnd > start && byteAt(recordEnd - 1) == '\r') {
+                    recordEnd--;
+                }
+                result = parse(start, recordEnd, recordOrdinal);
+            } catch (Throwable throwable) {
+                position = end;
+                result = Err.of(new RecordException(lineOf(origin, recordOrdinal), start, "Reading failed", throwable));
+            }
+            action.accept(result);
+            return true;
+        }
+
+        private Result<T> parse(long start, long recordEnd, long recordOrdinal) throws IOException {
+            long length = recordEnd - start;
+            if (length > Integer.MAX_VALUE) {
+                return Err.of(new RecordException(lineOf(origin, recordOrdinal), start, "Record of " + length + " bytes is too large", null));
+            }
+            if (start < windowStart || recordEnd > windowStart + window.limit()) {
+                map(start, Math.max((int) length, windowSize));
+            }
+            ByteBuffer record = window.slice((int) (start - windowStart), (int) length).asReadOnlyBuffer();
+            try {
+                T value = parser.parse(record);
+                if (value == null) {
+                    return Err.of(new RecordException(lineOf(origin, recordOrdinal), start, "Parser returned null", null));
+                }
+                return Ok.of(value);
+            } catch (Throwable throwable) {
+                return Err.of(new RecordException(lineOf(origin, recordOrdinal), start, throwable.getMessage(), throwable));
+            }
+        }
+
+        @Override
+        public Spliterator<Result<T>> trySplit() {
+            long middle = position + (end - position) / 2;
+            if (end - position < 2 || middle <= position) {
+                return null;
+            }
+            try {
+                long split = find(middle, end) + 1;
+                if (split >= end) {
+                    return null;
+                }
+                RecordSpliterator<T> prefix = new RecordSpliterator<>(source, position, split, origin, ordinal);
+                position = split;
+                origin = split;
+                ordinal = 0;
+                return prefix;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return position >= end ? 0 : Math.max(1, Math.round((end - position) / bytesPerRecord()));
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+
+        /**
+         * @return the absolute index of the next delimiter at or after from, or limit if there is none
+         */
+        private long find(long from, long limit) throws IOException {
+            long scan = from;
+            while (scan < limit) {
+                ensureMapped(scan);
+                int index = (int) (scan - windowStart);
+                int windowEnd = (int) Math.min(window.limit(), limit - windowStart);
+                for (; index < windowEnd; index++) {
+                    if (window.get(index) == delimiter) {
+                        return windowStart + index;
+                    }
+                }
+                scan = windowStart + windowEnd;
+            }
+            return limit;
+        }
+
+        private byte byteAt(long index) throws IOException {
+            ensureMapped(index);
+            return window.get((int) (index - windowStart));
+        }
+
+        private void ensureMapped(long index) throws IOException {
+            if (window == null || index < windowStart || index >= windowStart + window.limit()) {
+                map(index, windowSize);
+            }
+        }
+
+        private void map(long start, int length) throws IOException {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(length, size - start));
+            windowStart = start;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * File operations that return a {@link Result} instead of throwing
+ * <br><br>
+ * Expected failures are checked for instead of caught: a missing, unreadable or oversized file and malformed or
+ * unmappable characters (checked with {@link CoderResult}s) become an {@link Err} of a stackless
+ * {@link FileOperationException}. Only unexpected I/O failures still arrive as thrown exceptions, wrapped in an Err.
+ * <pre>{@code
+ * Result<CharBuffer> config = ResultFiles.readString(path, UTF_8);
+ * Result<Long> written = ResultFiles.write(path, buffer);
+ * }</pre>
+ * Data is transferred through a pool of direct buffers of 64KiB, so large heap buffers are never copied into an
+ * equally large temporary direct buffer. The returned buffers are owned by the caller, no further copy is made.
+ */
+@SuppressWarnings("unused")
+public final class ResultFiles {
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+    private static final OpenOption[] DEFAULT_WRITE_OPTIONS = {StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+
+    private ResultFiles() {
+    }
+
+    /**
+     * Reads a whole file
+     *
+     * @param path the file
+     * @return a buffer of the file's bytes, positioned at 0
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<ByteBuffer> readAllBytes(@Nullable Path path) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.readAllBytes(path) is null"));
+        }
+        FileOperationException rejected = checkReadable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        ByteBuffer chunk = BufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_SIZE) {
+                return Err.of(new FileOperationException(path, "file of " + size + " bytes is too large for a buffer"));
+            }
+            ByteBuffer target = ByteBuffer.allocate((int) size);
+            while (target.hasRemaining()) {
+                chunk.clear().limit(Math.min(chunk.capacity(), target.remaining()));
+                if (channel.read(chunk) < 0) {
+                    // the file shrank while reading
+                    break;
+                }
+                target.put(chunk.flip());
+            }
+            return Ok.of(target.flip());
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            BufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Reads and decodes a whole file, malformed or unmappable bytes are not replaced but reported
+     *
+     * @param path    the file
+     * @param charset the charset of the file
+     * @return a buffer of the file's characters, positioned at 0
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static Result<CharBuffer> readString(@Nullable Path path, @NotNull Charset charset) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.readString(path, charset) is null"));
+        }
+        FileOperationException rejected = checkReadable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer chunk = BufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_SIZE) {
+                return Err.of(new FileOperationException(path, "file of " + size + " bytes is too large for a buffer"));
+            }
+            CharBuffer target = CharBuffer.allocate((int) Math.min(MAX_SIZE, (long) (size * (double) decoder.averageCharsPerByte()) + 16));
+            long read = 0;
+            boolean endOfInput = false;
+            while (true) {
+                if (!endOfInput) {
+                    int count = channel.read(chunk);
+                    if (count < 0) {
+                        endOfInput = true;
+                    } else {
+                        read += count;
+                    }
+                }
+                chunk.flip();
+                CoderResult result = decoder.decode(chunk, target, endOfInput);
+                if (result.isError()) {
+                    return Err.of(new FileOperationException(path, (result.isMalformed() ? "malformed " : "unmappable ")
+                            + charset.name() + " input of " + result.length() + " bytes at offset " + (read - chunk.remaining())));
+                }
+                if (result.isOverflow()) {
+                    target = grow(target);
+                } else if (endOfInput) {
+                    break;
+                }
+                chunk.compact();
+            }
+            while (decoder.flush(target).isOverflow()) {
+                target = grow(target);
+            }
+            return Ok.of(target.flip());
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            BufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Reads a file chunk by chunk without copying it into one buffer
+     *
+     * @param path     the file
+     * @param consumer the consumer of each chunk, a read-only view only valid during the call
+     * @return the number of bytes read
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static Result<Long> forEachChunk(@Nullable Path path, @NotNull Consumer<? super ByteBuffer> consumer) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.forEachChunk(path, consumer) is null"));
+        }
+        FileOperationException rejected = checkReadable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        ByteBuffer chunk = BufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long total = 0;
+            for (int count = channel.read(chunk); count >= 0; count = channel.read(chunk.clear())) {
+                total += count;
+                consumer.accept(chunk.flip().asReadOnlyBuffer());
+            }
+            return Ok.of(total);
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            BufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer to a file, creating or truncating it
+     *
+     * @param path the file
+     * @param data the bytes to write, the buffer's position is not changed
+     * @return the number of bytes written
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static Result<Long> write(@Nullable Path path, @NotNull ByteBuffer data) {
+        return write(path, data, DEFAULT_WRITE_OPTIONS);
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer to a file
+     *
+     * @param path    the file
+     * @param data    the bytes to write, the buffer's position is not changed
+     * @param options the options to open the file with, e.g. {@link StandardOpenOption#APPEND}
+     * @return the number of bytes written
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Long> write(@Nullable Path path, @NotNull ByteBuffer data, @NotNull OpenOption... options) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.write(path, data) is null"));
+        }
+        FileOperationException rejected = checkWritable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        ByteBuffer source = data.duplicate();
+        ByteBuffer chunk = BufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(path, withWrite(options))) {
+            long total = source.remaining();
+            if (source.isDirect()) {
+                writeFully(channel, source);
+            } else {
+                while (source.hasRemaining()) {
+                    int count = Math.min(chunk.capacity(), source.remaining());
+                    chunk.clear().put(source.slice(source.position(), count)).flip();
+                    source.position(source.position() + count);
+                    writeFully(channel, chunk);
+                }
+            }
+            return Ok.of(total);
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            BufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Encodes text and writes it to a file, creating or truncating it
+     * <br><br>
+     * The text is encoded chunk by chunk, so a file may be partially written when an unmappable character is found.
+     *
+     * @param path    the file
+     * @param text    the text to write
+     * @param charset the charset to encode the text with
+     * @return the number of bytes written
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Long> writeString(@Nullable Path path, @NotNull CharSequence text, @NotNull Charset charset) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.writeString(path, text, charset) is null"));
+        }
+        FileOperationException rejected = checkWritable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer source = CharBuffer.wrap(text);
+        ByteBuffer chunk = BufferPool.acquire();
+        try (FileChannel channel = FileChannel.open(path, DEFAULT_WRITE_OPTIONS)) {
+            long total = 0;
+            CoderResult result;
+            do {
+                result = encoder.encode(source, chunk, true);
+                if (result.isError()) {
+                    return Err.of(new FileOperationException(path, (result.isMalformed() ? "malformed" : "unmappable")
+                            + " character for " + charset.name() + " at index " + source.position()));
+                }
+                total += chunk.position();
+                writeFully(channel, chunk.flip());
+                chunk.clear();
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(chunk);
+                total += chunk.position();
+                writeFully(channel, chunk.flip());
+                chunk.clear();
+            } while (result.isOverflow());
+            return Ok.of(total);
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        } finally {
+            BufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Gets the size of a file
+     *
+     * @param path the file
+     * @return the size in bytes
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<Long> size(@Nullable Path path) {
+        if (path == null) {
+            return Err.of(new NullPointerException("Path for ResultFiles.size(path) is null"));
+        }
+        FileOperationException rejected = checkReadable(path);
+        if (rejected != null) {
+            return Err.of(rejected);
+        }
+        try {
+            return Ok.of(Files.size(path));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+
+    private static FileOperationException checkReadable(Path path) {
+        if (!Files.exists(path)) {
+            return new FileOperationException(path, "no such file");
+        }
+        if (!Files.isRegularFile(path)) {
+            return new FileOperationException(path, "not a regular file");
+        }
+        return Files.isReadable(path) ? null : new FileOperationException(path, "not readable");
+    }
+
+    private static FileOperationException checkWritable(Path path) {
+        if (Files.isDirectory(path)) {
+            return new FileOperationException(path, "is a directory");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null && !Files.isDirectory(parent)) {
+            return new FileOperationException(path, "no such directory " + parent);
+        }
+        return Files.exists(path) && !Files.isWritable(path) ? new FileOperationException(path, "not writable") : null;
+    }
+
+    private static OpenOption[] withWrite(OpenOption[] options) {
+        for (OpenOption option : options) {
+            if (option == StandardOpenOption.WRITE || option == StandardOpenOption.APPEND) {
+                return options;
+            }
+        }
+        OpenOption[] withWrite = Arrays.copyOf(options, options.length + 1);
+        withWrite[options.length] = StandardOpenOption.WRITE;
+        return withWrite;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static CharBuffer grow(CharBuffer buffer) {
+        if (buffer.capacity() >= MAX_SIZE) {
+            throw new OutOfMemoryError("Decoded text exceeds the maximum buffer size");
+        }
+        CharBuffer grown = CharBuffer.allocate((int) Math.min(MAX_SIZE, buffer.capacity() * 2L + 16));
+        return grown.put(buffer.flip());
+    }
+
+    /**
+     * A bounded pool of direct buffers for transfers
+     */
+    private static final class BufferPool {
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private static final int MAX_POOLED = 16;
+        private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+        private static final AtomicInteger POOLED = new AtomicInteger();
+
+        private static ByteBuffer acquire() {
+            ByteBuffer buffer = POOL.poll();
+            if (buffer == null) {
+                return ByteBuffer.allocateDirect(BUFFER_SIZE);
+            }
+            POOLED.decrementAndGet();
+            return buffer.clear();
+        }
+
+        private static void release(ByteBuffer buffer) {
+            if (POOLED.incrementAndGet() <= MAX_POOLED) {
+                POOL.offer(buffer);
+            } else {
+                POOLED.decrementAndGet();
+            }
+        }
+    }
+}
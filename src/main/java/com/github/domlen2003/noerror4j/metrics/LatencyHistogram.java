@@ -0,0 +1,214 @@
+package com.github.domlen2003.noerror4j.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with log-scaled buckets
+ * <br><br>
+ * Every power of two is split into 32 linear sub-buckets, so a recorded value is kept with a relative error below
+ * 1/32 (about 3%) across the whole range of a long. The histogram has a fixed size of 1888 counters, recording
+ * is a single atomic increment and never allocates.
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(System.nanoTime() - start);
+ * LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+ * long p99 = snapshot.getValueAtPercentile(99);
+ * }</pre>
+ * Values reported by percentiles are the upper bound of their bucket, but never more than the maximum recorded value.
+ */
+@SuppressWarnings("unused")
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration
+     *
+     * @param nanos the duration in nanoseconds, negative durations are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.getAndIncrement(index(value));
+        long currentMax = max.get();
+        // only contended while the maximum is rising
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Takes a copy of the counts to read percentiles from.
+     * Values recorded at the same time may or may not be included.
+     *
+     * @return the snapshot
+     */
+    @NotNull
+    @Contract("-> new")
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, max.get());
+    }
+
+    /**
+     * Reads a single percentile without copying the counts.
+     *
+     * @param percentile the percentile from 0 to 100
+     * @return the duration in nanoseconds, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long rank = rank(percentile, total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && total > 0; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return total > 0 ? max.get() : 0;
+    }
+
+    /**
+     * Removes all recorded values, values recorded at the same time may survive
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (index / SUB_BUCKETS - 1);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        return lowerBound(index) + ((1L << (index / SUB_BUCKETS - 1)) - 1);
+    }
+
+    private static long rank(double percentile, long total) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        return Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    }
+
+    /**
+     * An immutable copy of a {@link LatencyHistogram}
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long max) {
+            this.counts = counts;
+            this.count = count;
+            // a value may be counted before the maximum is raised
+            this.max = count > 0 ? Math.max(max, lowerBoundOfLast(counts)) : 0;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the largest recorded duration.
+         *
+         * @return the duration in nanoseconds, 0 if nothing was recorded
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Gets the mean of the recorded durations, estimated from the bucket midpoints.
+         *
+         * @return the mean in nanoseconds, 0 if nothing was recorded
+         */
+        public double getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    sum += counts[i] * (lowerBound(i) / 2d + upperBound(i) / 2d);
+                }
+            }
+            return Math.min(sum / count, max);
+        }
+
+        /**
+         * Gets the duration that the given percentage of the recorded durations do not exceed
+         *
+         * @param percentile the percentile from 0 to 100, e.g. 99.9
+         * @return the duration in nanoseconds, 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            long rank = rank(percentile, count);
+            if (count == 0) {
+                return 0;
+            }
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", p50=" + getValueAtPercentile(50) + "ns, p99=" + getValueAtPercentile(99)
+                    + "ns, p999=" + getValueAtPercentile(99.9) + "ns, max=" + max + "ns";
+        }
+
+        private static long lowerBoundOfLast(long[] counts) {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return lowerBound(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.domlen2003.noerror4j.metrics;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures the latency of Result-producing calls, split by outcome
+ * <br><br>
+ * Failing calls often take very different times than successful ones (fast rejections, slow timeouts), so every
+ * timer keeps one {@link LatencyHistogram} for {@link Ok}s and one for {@link Err}s. Timers are registered by name,
+ * usually one per dependency or operation.
+ * <pre>{@code
+ * private static final Timer USERS = Timer.of("users.load");
+ * private static final Timer PROFILES = Timer.of("profiles.load");
+ *
+ * Result<User> user = USERS.time(() -> client.load(id));
+ * Result<Profile> profile = user.flatMapOk(PROFILES.timed(this::loadProfile));
+ * // hedge after the observed p95 of successful calls
+ * Races.hedged(executor, () -> PROFILES.timeResult(() -> loadProfile(user)), () -> PROFILES.getOk().getValueAtPercentile(95));
+ * }</pre>
+ * Timing is enabled by default. While disabled with {@link #disable()}, a timed call costs a single volatile read
+ * and records nothing.
+ */
+@SuppressWarnings("unused")
+public final class Timer {
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private final String name;
+    private final LatencyHistogram ok = new LatencyHistogram();
+    private final LatencyHistogram err = new LatencyHistogram();
+
+    private Timer(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the timer of a name, creating it on first use
+     *
+     * @param name the name of the timed operation
+     * @return the timer shared by all callers of the name
+     */
+    @NotNull
+    public static Timer of(@NotNull String name) {
+        Timer timer = TIMERS.get(name);
+        return timer != null ? timer : TIMERS.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Gets all registered timers.
+     *
+     * @return the timers by name, sorted by name
+     */
+    @NotNull
+    @Unmodifiable
+    @Contract("-> new")
+    public static Map<String, Timer> getTimers() {
+        return Collections.unmodifiableMap(new TreeMap<>(TIMERS));
+    }
+
+    /**
+     * Starts recording timed calls, timers keep their previous values
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops recording timed calls, the calls themselves still run
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Times {@link Result#of(Supplier)}
+     *
+     * @param supplier the supplier to get the value from
+     * @return the result
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <T> Result<T> time(@Nullable Supplier<@Nullable T> supplier) {
+        if (!enabled) {
+            return Result.of(supplier);
+        }
+        long start = System.nanoTime();
+        Result<T> result = Result.of(supplier);
+        record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Times a call that returns a Result itself
+     *
+     * @param supplier the call
+     * @return the result of the call, or an {@link Err} if it threw or returned null
+     */
+    @NotNull
+    public <T> Result<T> timeResult(@Nullable Supplier<@Nullable Result<T>> supplier) {
+        if (!enabled) {
+            return call(supplier);
+        }
+        long start = System.nanoTime();
+        Result<T> result = call(supplier);
+        record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Wraps a function to time it as a stage of {@link Result#flatMapOk(Function)}
+     * <br><br>
+     * Only calls of the function are timed, an Err passed on by flatMapOk is not recorded.
+     *
+     * @param mapper the function to time
+     * @return the timed function
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <T, U> Function<@NotNull T, @Nullable Result<U>> timed(@NotNull Function<@NotNull T, @Nullable Result<U>> mapper) {
+        return value -> timeResult(() -> mapper.apply(value));
+    }
+
+    /**
+     * Records the duration of a call that was timed elsewhere
+     *
+     * @param result the outcome of the call
+     * @param nanos  the duration in nanoseconds
+     */
+    public void record(@NotNull Result<?> result, long nanos) {
+        if (enabled) {
+            (result instanceof Ok<?> ? ok : err).record(nanos);
+        }
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the histogram of calls that returned an {@link Ok}.
+     *
+     * @return the live histogram
+     */
+    @NotNull
+    public LatencyHistogram getOk() {
+        return ok;
+    }
+
+    /**
+     * Gets the histogram of calls that returned an {@link Err}.
+     *
+     * @return the live histogram
+     */
+    @NotNull
+    public LatencyHistogram getErr() {
+        return err;
+    }
+
+    /**
+     * Removes all recorded values of this timer
+     */
+    public void reset() {
+        ok.reset();
+        err.reset();
+    }
+
+    @Override
+    public String toString() {
+        return name + " ok[" + ok + "] err[" + err + "]";
+    }
+
+    private static <T> Result<T> call(Supplier<Result<T>> supplier) {
+        if (supplier == null) {
+            return Err.of(new NullPointerException("Supplier for Timer.timeResult(supplier) is null"));
+        }
+        try {
+            Result<T> result = supplier.get();
+            return result != null ? result : Err.of(new NullPointerException("Supplier for Timer.timeResult(supplier) returned null"));
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+}
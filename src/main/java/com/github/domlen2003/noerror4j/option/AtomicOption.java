@@ -0,0 +1,205 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free, thread-safe holder of an optional value
+ * <br><br>
+ * Unlike an {@code AtomicReference<Option<T>>}, it stores the raw value (or null if empty) and only creates an
+ * {@link Option} when one is asked for, so reads with {@link #getOrNull()} and updates allocate nothing.
+ * <pre>{@code
+ * AtomicOption<Token> token = AtomicOption.empty();
+ * Token current = token.computeIfNone(this::login);
+ * token.updateSome(t -> t.isExpired() ? null : t);
+ * }</pre>
+ * Values are compared by identity. Like {@link Option#mapSome(Function)}, an exception thrown by a mapper or
+ * supplier is sent to the error sink and leaves the value unchanged.
+ * When other threads update the value at the same time, a mapper may be called more than once and a supplied
+ * value may be discarded.
+ *
+ * @param <T> the type of the value
+ */
+@SuppressWarnings("unused")
+public final class AtomicOption<T> {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicOption.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile T value;
+
+    private AtomicOption(T value) {
+        this.value = value;
+    }
+
+    @NotNull
+    @Contract("-> new")
+    public static <T> AtomicOption<T> empty() {
+        return new AtomicOption<>(null);
+    }
+
+    /**
+     * Creates a holder of a value
+     *
+     * @param value the initial value, null creates an empty holder
+     * @return the holder
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> AtomicOption<T> of(@Nullable T value) {
+        return new AtomicOption<>(value);
+    }
+
+    /**
+     * Gets the value as an Option
+     *
+     * @return a {@link Some} of the current value or a {@link None} if empty
+     */
+    @NotNull
+    @Contract("-> new")
+    public Option<T> get() {
+        return Some.of(value);
+    }
+
+    /**
+     * Gets the value without allocating.
+     *
+     * @return the current value or null if empty
+     */
+    @Nullable
+    public T getOrNull() {
+        return value;
+    }
+
+    @Contract("!null -> !null")
+    public T getOrElse(@Nullable T other) {
+        T current = value;
+        return current != null ? current : other;
+    }
+
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * Sets the value
+     *
+     * @param newValue the new value, null empties the holder
+     */
+    public void set(@Nullable T newValue) {
+        value = newValue;
+    }
+
+    public void clear() {
+        value = null;
+    }
+
+    /**
+     * Sets the value if the current one is the expected one
+     *
+     * @param expected the expected value, null if expected to be empty
+     * @param newValue the new value, null empties the holder
+     * @return true if the value was set
+     */
+    public boolean compareAndSet(@Nullable T expected, @Nullable T newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    /**
+     * Sets the value and returns the previous one without allocating
+     *
+     * @param newValue the new value, null empties the holder
+     * @return the previous value or null if it was empty
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T getAndSet(@Nullable T newValue) {
+        return (T) VALUE.getAndSet(this, newValue);
+    }
+
+    /**
+     * Empties the holder
+     *
+     * @return a {@link Some} of the previous value or a {@link None} if it was empty
+     */
+    @NotNull
+    @Contract("-> new")
+    public Option<T> getAndClear() {
+        return Some.of(getAndSet(null));
+    }
+
+    /**
+     * Atomically replaces a present value with the mapped one, an empty holder stays empty
+     *
+     * @param mapper the function of the current value, returning null empties the holder
+     * @return the new value, or null if the holder is empty afterwards
+     */
+    @Nullable
+    public T updateSome(@Nullable Function<? super @NotNull T, ? extends @Nullable T> mapper) {
+        if (mapper == null) {
+            return value;
+        }
+        for (; ; ) {
+            T current = value;
+            if (current == null) {
+                return null;
+            }
+            T next;
+            try {
+                next = mapper.apply(current);
+            } catch (Throwable e) {
+                Option.sinkError("Error thrown in mapper of AtomicOption.updateSome(mapper)", e);
+                return current;
+            }
+            if (VALUE.weakCompareAndSet(this, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Atomically sets a value if the holder is empty
+     *
+     * @param supplier the supplier of the value, returning null leaves the holder empty
+     * @return the present or new value, or null if the holder is still empty
+     */
+    @Nullable
+    public T computeIfNone(@Nullable Supplier<? extends @Nullable T> supplier) {
+        T current = value;
+        if (current != null || supplier == null) {
+            return current;
+        }
+        T created;
+        try {
+            created = supplier.get();
+        } catch (Throwable e) {
+            Option.sinkError("Error thrown in supplier of AtomicOption.computeIfNone(supplier)", e);
+            return value;
+        }
+        if (created == null) {
+            return value;
+        }
+        // the witness is the value another thread set in the meantime, if any
+        @SuppressWarnings("unchecked")
+        T witness = (T) VALUE.compareAndExchange(this, null, created);
+        return witness != null ? witness : created;
+    }
+
+    @Override
+    public String toString() {
+        T current = value;
+        return current != null ? "AtomicOption[" + current + "]" : "AtomicOption[]";
+    }
+}
@@ -6,9 +6,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @SuppressWarnings("unused")
 public final class None<T> extends Option<T> {
@@ -92,6 +95,49 @@ public final class None<T> extends Option<T> {
         return this;
     }
 
+    @Override
+    public <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> someMapper,
+                      @NotNull Supplier<? extends @Nullable R> noneSupplier) {
+        return noneSupplier.get();
+    }
+
+    @Override
+    @Contract("_, _ -> param2")
+    public int foldToInt(@NotNull ToIntFunction<? super @NotNull T> someMapper, int noneValue) {
+        return noneValue;
+    }
+
+    @Override
+    @Contract("_, _ -> param2")
+    public long foldToLong(@NotNull ToLongFunction<? super @NotNull T> someMapper, long noneValue) {
+        return noneValue;
+    }
+
+    @Override
+    @Contract("_ -> param1")
+    public T getOrElse(@Nullable T other) {
+        return other;
+    }
+
+    @Override
+    public T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier) {
+        return supplier.get();
+    }
+
+    @Override
+    @NotNull
+    @Contract("-> fail")
+    public T orElseThrow() {
+        throw new NoSuchElementException("Option is empty");
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> fail")
+    public <X extends Throwable> T orElseThrow(@NotNull Supplier<? extends @NotNull X> exceptionSupplier) throws X {
+        throw exceptionSupplier.get();
+    }
+
     @Override
     @NotNull
     @Contract("-> new")
@@ -7,11 +7,14 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * An Option type that can be used to return a value or nothing
@@ -142,6 +145,73 @@ public sealed abstract class Option<T> permits None, Some {
     @NotNull
     public abstract Option<T> doOnNone(@Nullable Runnable runnable);
 
+    /**
+     * Folds the Option into a single value by applying the matching function
+     * <br><br>
+     * Exceptions thrown by the functions are not caught, as there is no Option left to carry them.
+     *
+     * @param someMapper   the function to apply to the value of a {@link Some}
+     * @param noneSupplier the supplier of the value for a {@link None}
+     * @return the result of the applied function
+     */
+    @Nullable
+    public abstract <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> someMapper,
+                               @NotNull Supplier<? extends @Nullable R> noneSupplier);
+
+    /**
+     * Folds the Option into a primitive int without boxing
+     *
+     * @param someMapper the function to apply to the value of a {@link Some}
+     * @param noneValue  the value for a {@link None}
+     * @return the result of the applied function or the noneValue
+     */
+    public abstract int foldToInt(@NotNull ToIntFunction<? super @NotNull T> someMapper, int noneValue);
+
+    /**
+     * Folds the Option into a primitive long without boxing
+     *
+     * @param someMapper the function to apply to the value of a {@link Some}
+     * @param noneValue  the value for a {@link None}
+     * @return the result of the applied function or the noneValue
+     */
+    public abstract long foldToLong(@NotNull ToLongFunction<? super @NotNull T> someMapper, long noneValue);
+
+    /**
+     * Gets the value of a {@link Some} or the given value
+     *
+     * @param other the value to return for a {@link None}
+     * @return the value
+     */
+    @Contract("!null -> !null")
+    public abstract T getOrElse(@Nullable T other);
+
+    /**
+     * Gets the value of a {@link Some} or the supplied value
+     *
+     * @param supplier the supplier of the value for a {@link None}, only called for a {@link None}
+     * @return the value
+     */
+    public abstract T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier);
+
+    /**
+     * Gets the value of a {@link Some} or throws
+     *
+     * @return the value
+     * @throws NoSuchElementException if the Option is a {@link None}
+     */
+    @NotNull
+    public abstract T orElseThrow();
+
+    /**
+     * Gets the value of a {@link Some} or throws the supplied exception
+     *
+     * @param exceptionSupplier the supplier of the exception to throw for a {@link None}
+     * @return the value
+     * @throws X the supplied exception
+     */
+    @NotNull
+    public abstract <X extends Throwable> T orElseThrow(@NotNull Supplier<? extends @NotNull X> exceptionSupplier) throws X;
+
     /**
      * If the option is {@link Some} maps the value of Some to a new {@link Ok} returns s new  {@link Err} of a NullPointerException
      *
@@ -0,0 +1,239 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A fixed-length array of optional values stored column-wise
+ * <br><br>
+ * Instead of one {@link Some} object per element, values live in a flat array next to a presence bitmap.
+ * Reading an element does not allocate unless an {@link Option} view is requested with {@link #get(int)},
+ * and the bulk operations walk the bitmap word by word, skipping absent elements.
+ * <br><br>
+ * Not thread-safe.
+ *
+ * @param <T> the type of the values
+ * @see OptionIntArray
+ * @see OptionLongArray
+ */
+@SuppressWarnings("unused")
+public final class OptionArray<T> {
+    private final Object[] values;
+    private final long[] bits;
+
+    /**
+     * Creates an array of {@link None}s
+     *
+     * @param length the length of the array
+     */
+    public OptionArray(int length) {
+        this.bits = PresenceBits.create(length);
+        this.values = new Object[length];
+    }
+
+    /**
+     * Creates an array holding the values of Options
+     *
+     * @param options the options to copy
+     * @return the new array
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> OptionArray<T> of(@NotNull List<? extends @Nullable Option<T>> options) {
+        OptionArray<T> array = new OptionArray<>(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i) instanceof Some<T> some) {
+                array.set(i, some.getValue());
+            }
+        }
+        return array;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Whether the element has a value
+     *
+     * @param index the index of the element
+     * @return true if the element is present
+     */
+    public boolean isPresent(int index) {
+        return PresenceBits.get(bits, Objects.checkIndex(index, values.length));
+    }
+
+    /**
+     * Gets the element as an Option, this allocates a {@link Some} for present elements
+     *
+     * @param index the index of the element
+     * @return a {@link Some} of the value or {@link None#instance()}
+     */
+    @NotNull
+    public Option<T> get(int index) {
+        T value = getOrNull(index);
+        return value != null ? Some.of(value) : None.instance();
+    }
+
+    /**
+     * Gets the element without allocating
+     *
+     * @param index the index of the element
+     * @return the value or null if the element is absent
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T getOrNull(int index) {
+        return (T) values[Objects.checkIndex(index, values.length)];
+    }
+
+    /**
+     * Gets the element without allocating
+     *
+     * @param index the index of the element
+     * @param other the value to return if the element is absent
+     * @return the value or other
+     */
+    @Contract("_, !null -> !null")
+    public T getOrElse(int index, @Nullable T other) {
+        T value = getOrNull(index);
+        return value != null ? value : other;
+    }
+
+    /**
+     * Sets an element, a null value makes the element absent like {@link #clear(int)}
+     *
+     * @param index the index of the element
+     * @param value the value to set
+     */
+    public void set(int index, @Nullable T value) {
+        values[Objects.checkIndex(index, values.length)] = value;
+        if (value != null) {
+            PresenceBits.set(bits, index);
+        } else {
+            PresenceBits.clear(bits, index);
+        }
+    }
+
+    /**
+     * Sets an element to the value of an Option
+     * <br><br>
+     * Named apart from {@link #set(int, Object)}, so {@code set(index, null)} is not ambiguous and the Option is
+     * unwrapped even for an {@code OptionArray<Option<X>>}, whose {@code set} stores the Option itself.
+     *
+     * @param index  the index of the element
+     * @param option the option to set, null or a {@link None} make the element absent
+     */
+    public void setOption(int index, @Nullable Option<T> option) {
+        set(index, option instanceof Some<T> some ? some.getValue() : null);
+    }
+
+    /**
+     * Makes an element absent
+     *
+     * @param index the index of the element
+     */
+    public void clear(int index) {
+        set(index, null);
+    }
+
+    /**
+     * Counts the present elements
+     *
+     * @return the number of present elements
+     */
+    public int count() {
+        return PresenceBits.count(bits);
+    }
+
+    /**
+     * Maps all present values into a new array, like {@link Option#mapSome(Function)} per element
+     *
+     * @param mapper the mapper to apply
+     * @return a new array with the mapped values, elements whose mapper returned null or threw are absent
+     */
+    @NotNull
+    @Contract("_ -> new")
+    @SuppressWarnings("unchecked")
+    public <U> OptionArray<U> mapSome(@Nullable Function<? super @NotNull T, ? extends @Nullable U> mapper) {
+        OptionArray<U> mapped = new OptionArray<>(values.length);
+        if (mapper == null) {
+            return mapped;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                try {
+                    U value = mapper.apply((T) values[index]);
+                    if (value != null) {
+                        mapped.values[index] = value;
+                        PresenceBits.set(mapped.bits, index);
+                    }
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in mapper of OptionArray.mapSome(mapper)", e);
+                }
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Keeps the present values matching a predicate in a new array
+     *
+     * @param predicate the predicate to test the values with
+     * @return a new array in which non-matching elements are absent
+     */
+    @NotNull
+    @Contract("_ -> new")
+    @SuppressWarnings("unchecked")
+    public OptionArray<T> filter(@Nullable Predicate<? super @NotNull T> predicate) {
+        OptionArray<T> filtered = new OptionArray<>(values.length);
+        if (predicate == null) {
+            return filtered;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            long kept = 0;
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                try {
+                    if (predicate.test((T) values[index])) {
+                        filtered.values[index] = values[index];
+                        kept |= remaining & -remaining;
+                    }
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in predicate of OptionArray.filter(predicate)", e);
+                }
+            }
+            filtered.bits[word] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Calls a consumer with every present value, in index order
+     *
+     * @param consumer the consumer to call
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachSome(@Nullable Consumer<? super @NotNull T> consumer) {
+        if (consumer == null) {
+            return;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                try {
+                    consumer.accept((T) values[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in consumer of OptionArray.forEachSome(consumer)", e);
+                }
+            }
+        }
+    }
+}
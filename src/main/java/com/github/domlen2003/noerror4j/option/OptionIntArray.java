@@ -0,0 +1,179 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A fixed-length array of optional ints stored column-wise in an {@code int[]} next to a presence bitmap
+ * <br><br>
+ * Not thread-safe.
+ *
+ * @see OptionArray
+ */
+@SuppressWarnings("unused")
+public final class OptionIntArray {
+    private final int[] values;
+    private final long[] bits;
+
+    /**
+     * Creates an array of absent elements
+     *
+     * @param length the length of the array
+     */
+    public OptionIntArray(int length) {
+        this.bits = PresenceBits.create(length);
+        this.values = new int[length];
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Whether the element has a value
+     *
+     * @param index the index of the element
+     * @return true if the element is present
+     */
+    public boolean isPresent(int index) {
+        return PresenceBits.get(bits, Objects.checkIndex(index, values.length));
+    }
+
+    /**
+     * Gets the element as an Option, this boxes present elements
+     *
+     * @param index the index of the element
+     * @return a {@link Some} of the value or {@link None#instance()}
+     */
+    @NotNull
+    public Option<Integer> get(int index) {
+        return isPresent(index) ? Some.of(values[index]) : None.instance();
+    }
+
+    /**
+     * Gets the element without boxing
+     *
+     * @param index the index of the element
+     * @param other the value to return if the element is absent
+     * @return the value or other
+     */
+    public int getOrElse(int index, int other) {
+        return isPresent(index) ? values[index] : other;
+    }
+
+    /**
+     * Sets an element to a present value
+     *
+     * @param index the index of the element
+     * @param value the value to set
+     */
+    public void set(int index, int value) {
+        values[Objects.checkIndex(index, values.length)] = value;
+        PresenceBits.set(bits, index);
+    }
+
+    /**
+     * Makes an element absent
+     *
+     * @param index the index of the element
+     */
+    public void clear(int index) {
+        values[Objects.checkIndex(index, values.length)] = 0;
+        PresenceBits.clear(bits, index);
+    }
+
+    /**
+     * Counts the present elements
+     *
+     * @return the number of present elements
+     */
+    public int count() {
+        return PresenceBits.count(bits);
+    }
+
+    /**
+     * Maps all present values into a new array
+     *
+     * @param mapper the mapper to apply
+     * @return a new array with the mapped values, elements whose mapper threw are absent
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public OptionIntArray mapSome(@Nullable IntUnaryOperator mapper) {
+        OptionIntArray mapped = new OptionIntArray(values.length);
+        if (mapper == null) {
+            return mapped;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            long kept = 0;
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                try {
+                    mapped.values[index] = mapper.applyAsInt(values[index]);
+                    kept |= remaining & -remaining;
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in mapper of OptionIntArray.mapSome(mapper)", e);
+                }
+            }
+            mapped.bits[word] = kept;
+        }
+        return mapped;
+    }
+
+    /**
+     * Keeps the present values matching a predicate in a new array
+     *
+     * @param predicate the predicate to test the values with
+     * @return a new array in which non-matching elements are absent
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public OptionIntArray filter(@Nullable IntPredicate predicate) {
+        OptionIntArray filtered = new OptionIntArray(values.length);
+        if (predicate == null) {
+            return filtered;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            long kept = 0;
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                try {
+                    if (predicate.test(values[index])) {
+                        filtered.values[index] = values[index];
+                        kept |= remaining & -remaining;
+                    }
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in predicate of OptionIntArray.filter(predicate)", e);
+                }
+            }
+            filtered.bits[word] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Calls a consumer with every present value, in index order
+     *
+     * @param consumer the consumer to call
+     */
+    public void forEachSome(@Nullable IntConsumer consumer) {
+        if (consumer == null) {
+            return;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                try {
+                    consumer.accept(values[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+                } catch (Exception e) {
+                    Option.sinkError("Error thrown in consumer of OptionIntArray.forEachSome(consumer)", e);
+                }
+            }
+        }
+    }
+}
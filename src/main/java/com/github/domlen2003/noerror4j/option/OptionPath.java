@@ -0,0 +1,233 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A null-safe path through an object graph, compiled once into a single accessor
+ * <br><br>
+ * A path is a chain of getters, given as bean property names or as functions such as method references.
+ * The getters are combined into one {@link MethodHandle} that stops at the first null, so reading the path
+ * allocates nothing but the final {@link Some}, unlike a chain of {@link Option#mapSome(Function)} calls.
+ * On its first read, the handle becomes a constant of a generated class, so the JIT inlines the getters and
+ * functions of the path into the caller like the lambdas of a hand-written chain.
+ * <pre>{@code
+ * private static final OptionPath<Order, String> CITY = OptionPath.of(Order.class, String.class, "customer.address.city");
+ * private static final OptionPath<Order, String> ZIP = OptionPath.of(Order::getCustomer)
+ *         .then(Customer::getAddress)
+ *         .then(Address::getZip);
+ *
+ * Option<String> city = CITY.get(order);
+ * }</pre>
+ * Paths of property names are cached per root class and path. Like {@link Option#mapSome(Function)}, an exception
+ * thrown by a getter is sent to the error sink and results in a {@link None}.
+ *
+ * @param <S> the type of the root object
+ * @param <T> the type of the value at the end of the path
+ */
+@SuppressWarnings("unused")
+public final class OptionPath<S, T> {
+    private static final MethodHandle APPLY;
+    private static final MethodHandle IS_NULL;
+    private static final ClassValue<Map<String, OptionPath<?, ?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, OptionPath<?, ?>> computeValue(@NotNull Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            APPLY = lookup.findVirtual(Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+            IS_NULL = lookup.findStatic(OptionPath.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String description;
+    private final int steps;
+    private final Class<?> valueType;
+    // (Object)Object, returns null if any step returns null
+    private final MethodHandle accessor;
+    // the accessor as a constant of a generated class, created on the first read
+    private volatile Function<Object, Object> compiled;
+
+    private OptionPath(String description, int steps, Class<?> valueType, MethodHandle accessor) {
+        this.description = description;
+        this.steps = steps;
+        this.valueType = valueType;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Compiles a path of bean property names separated by dots
+     * <br><br>
+     * Each property is read with its public {@code getName()}, {@code isName()} or {@code name()} method.
+     *
+     * @param rootType  the class of the root objects
+     * @param valueType the class of the value at the end of the path
+     * @param path      the property names, e.g. {@code customer.address.city}
+     * @return the compiled path, shared with every other call for the same root class and path
+     * @throws IllegalArgumentException if a property has no getter or the last one does not return the value type
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <S, T> OptionPath<S, T> of(@NotNull Class<S> rootType, @NotNull Class<T> valueType, @NotNull String path) {
+        OptionPath<?, ?> compiled = CACHE.get(rootType).computeIfAbsent(path, key -> compile(rootType, key));
+        if (!box(valueType).isAssignableFrom(box(compiled.valueType))) {
+            throw new IllegalArgumentException("Path " + path + " of " + rootType.getName() + " leads to " + compiled.valueType.getName() + ", not " + valueType.getName());
+        }
+        return (OptionPath<S, T>) compiled;
+    }
+
+    /**
+     * Starts a path with a getter
+     *
+     * @param getter the first step, e.g. a method reference
+     * @return a path of one step
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <S, T> OptionPath<S, T> of(@NotNull Function<? super S, ? extends T> getter) {
+        return new OptionPath<S, S>("", 0, Object.class, MethodHandles.identity(Object.class)).<T>then(getter);
+    }
+
+    /**
+     * Appends a step to this path
+     *
+     * @param getter the next step, called with the non-null value of this path
+     * @return a new path ending with the getter
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <U> OptionPath<S, U> then(@NotNull Function<? super T, ? extends U> getter) {
+        return new OptionPath<>("OptionPath[" + (steps + 1) + (steps == 0 ? " step]" : " steps]"), steps + 1, Object.class, append(accessor, APPLY.bindTo(getter)));
+    }
+
+    /**
+     * Reads the path
+     *
+     * @param source the root object
+     * @return the value at the end of the path, or a {@link None} if the source or any step returned null
+     */
+    @NotNull
+    @Contract("_ -> new")
+    @SuppressWarnings("unchecked")
+    public Option<T> get(@Nullable S source) {
+        Object value = read(source);
+        return value != null ? Some.of((T) value) : None.instance();
+    }
+
+    /**
+     * Reads the path without wrapping the value
+     *
+     * @param source the root object
+     * @return the value at the end of the path, or null if the source or any step returned null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T getOrNull(@Nullable S source) {
+        return (T) read(source);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private Object read(S source) {
+        if (source == null) {
+            return null;
+        }
+        Function<Object, Object> function = compiled;
+        if (function == null) {
+            function = PathAccessors.compile(accessor);
+            compiled = function;
+        }
+        try {
+            return function.apply(source);
+        } catch (Throwable throwable) {
+            Option.sinkError("Error thrown in getter of OptionPath.get(source)", throwable);
+            return null;
+        }
+    }
+
+    private static OptionPath<?, ?> compile(Class<?> rootType, String path) {
+        MethodHandle accessor = MethodHandles.identity(Object.class);
+        Class<?> type = rootType;
+        String[] properties = path.split("\\.", -1);
+        for (String property : properties) {
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException("Path " + path + " of " + rootType.getName() + " continues after the primitive " + type.getName());
+            }
+            Method getter = findGetter(type, property);
+            if (getter == null) {
+                throw new IllegalArgumentException("No public getter for property '" + property + "' of " + type.getName());
+            }
+            accessor = append(accessor, unreflect(getter).asType(MethodType.methodType(Object.class, Object.class)));
+            type = getter.getReturnType();
+        }
+        return new OptionPath<>("OptionPath[" + rootType.getSimpleName() + "." + path + "]", properties.length, type, accessor);
+    }
+
+    /**
+     * Combines a path with a next step that is skipped once the path returned null
+     */
+    private static MethodHandle append(MethodHandle path, MethodHandle step) {
+        MethodHandle nullSafeStep = MethodHandles.guardWithTest(IS_NULL, MethodHandles.identity(Object.class), step);
+        return MethodHandles.filterReturnValue(path, nullSafeStep);
+    }
+
+    private static Method findGetter(Class<?> type, String property) {
+        if (property.isEmpty()) {
+            return null;
+        }
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + capitalized, "is" + capitalized, property}) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getReturnType() != void.class && (!name.startsWith("is") || box(method.getReturnType()) == Boolean.class || name.equals(property))) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // try the next naming convention
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // a public method of a non-public class
+            if (!method.trySetAccessible()) {
+                throw new IllegalArgumentException("Getter " + method + " is not accessible", e);
+            }
+            try {
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException inaccessible) {
+                throw new IllegalArgumentException("Getter " + method + " is not accessible", inaccessible);
+            }
+        }
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static boolean isNull(Object value) {
+        return value == null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.domlen2003.noerror4j.option;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+/**
+ * Turns the combined accessor of an {@link OptionPath} into a {@link Function} the JIT can inline
+ * <br><br>
+ * A MethodHandle kept in an instance field is not a constant to the JIT, so invoking it never inlines the getters.
+ * Each accessor is therefore wrapped into a hidden class of its own, whose {@code apply} loads the handle as a
+ * dynamic constant from the class data ({@link MethodHandles#classData}) and invokes it. As a constant, the whole
+ * combined handle, including functions bound into it, is inlined into {@code apply}, like a lambda would be.
+ */
+final class PathAccessors {
+    private static final String NAME = PathAccessors.class.getName().replace('.', '/') + "$Accessor";
+    private static final byte[] TEMPLATE = template();
+
+    private PathAccessors() {
+    }
+
+    /**
+     * @param accessor a handle of type (Object)Object
+     * @return a function invoking the handle as a constant
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> compile(MethodHandle accessor) {
+        try {
+            MethodHandles.Lookup hidden = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE, accessor, true);
+            return (Function<Object, Object>) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable throwable) {
+            // still correct, only not inlined
+            return source -> {
+                try {
+                    return (Object) accessor.invokeExact(source);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+    }
+
+    /**
+     * Writes the class file of
+     * <pre>{@code
+     * final class PathAccessors$Accessor implements Function {
+     *     public Object apply(Object source) {
+     *         return ((MethodHandle) ldc(classData)).invokeExact(source);
+     *     }
+     * }
+     * }</pre>
+     */
+    private static byte[] template() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            // Java 17
+            out.writeShort(61);
+
+            out.writeShort(31);
+            utf8(out, NAME);                                                  // #1
+            reference(out, 7, 1);                                             // #2 Class this
+            utf8(out, "java/lang/Object");                                    // #3
+            reference(out, 7, 3);                                             // #4 Class Object
+            utf8(out, "java/util/function/Function");                         // #5
+            reference(out, 7, 5);                                             // #6 Class Function
+            utf8(out, "<init>");                                              // #7
+            utf8(out, "()V");                                                 // #8
+            pair(out, 12, 7, 8);                                              // #9 NameAndType <init>()V
+            pair(out, 10, 4, 9);                                              // #10 Methodref Object.<init>
+            utf8(out, "apply");                                               // #11
+            utf8(out, "(Ljava/lang/Object;)Ljava/lang/Object;");              // #12
+            utf8(out, "Code");                                                // #13
+            utf8(out, "java/lang/invoke/MethodHandles");                      // #14
+            reference(out, 7, 14);                                            // #15 Class MethodHandles
+            utf8(out, "classData");                                           // #16
+            utf8(out, "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"); // #17
+            pair(out, 12, 16, 17);                                            // #18 NameAndType classData
+            pair(out, 10, 15, 18);                                            // #19 Methodref MethodHandles.classData
+            out.writeByte(15);                                                // #20 MethodHandle REF_invokeStatic #19
+            out.writeByte(6);
+            out.writeShort(19);
+            utf8(out, "_");                                                   // #21
+            utf8(out, "Ljava/lang/invoke/MethodHandle;");                     // #22
+            pair(out, 12, 21, 22);                                            // #23 NameAndType _:MethodHandle
+            pair(out, 17, 0, 23);                                             // #24 Dynamic bootstrap 0
+            utf8(out, "java/lang/invoke/MethodHandle");                       // #25
+            reference(out, 7, 25);                                            // #26 Class MethodHandle
+            utf8(out, "invokeExact");                                         // #27
+            pair(out, 12, 27, 12);                                            // #28 NameAndType invokeExact(Object)Object
+            pair(out, 10, 26, 28);                                            // #29 Methodref MethodHandle.invokeExact
+            utf8(out, "BootstrapMethods");                                    // #30
+
+            // public final super
+            out.writeShort(0x0031);
+            out.writeShort(2);
+            out.writeShort(4);
+            out.writeShort(1);
+            out.writeShort(6);
+            // fields
+            out.writeShort(0);
+
+            out.writeShort(2);
+            // public <init>() { super(); }
+            method(out, 7, 8, 1, 1, new byte[]{0x2a, (byte) 0xb7, 0, 10, (byte) 0xb1});
+            // public Object apply(Object source): ldc #24, aload_1, invokevirtual #29, areturn
+            method(out, 11, 12, 2, 2, new byte[]{0x12, 24, 0x2b, (byte) 0xb6, 0, 29, (byte) 0xb0});
+
+            // BootstrapMethods: MethodHandles.classData without arguments
+            out.writeShort(1);
+            out.writeShort(30);
+            out.writeInt(6);
+            out.writeShort(1);
+            out.writeShort(20);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static void reference(DataOutputStream out, int tag, int index) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(index);
+    }
+
+    private static void pair(DataOutputStream out, int tag, int first, int second) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(first);
+        out.writeShort(second);
+    }
+
+    private static void method(DataOutputStream out, int name, int descriptor, int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(0x0001);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(13);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        // no exception table, no attributes
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.domlen2003.noerror4j.option;
+
+/**
+ * Presence bitmap shared by the columnar Option arrays, one bit per element.
+ */
+final class PresenceBits {
+
+    private PresenceBits() {
+    }
+
+    static long[] create(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative: " + length);
+        }
+        return new long[(length + 63) >>> 6];
+    }
+
+    static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -9,6 +9,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @SuppressWarnings("unused")
 public final class Some<T> extends Option<T> {
@@ -101,6 +103,48 @@ public final class Some<T> extends Option<T> {
         return this;
     }
 
+    @Override
+    public <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> someMapper,
+                      @NotNull Supplier<? extends @Nullable R> noneSupplier) {
+        return someMapper.apply(value);
+    }
+
+    @Override
+    public int foldToInt(@NotNull ToIntFunction<? super @NotNull T> someMapper, int noneValue) {
+        return someMapper.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(@NotNull ToLongFunction<? super @NotNull T> someMapper, long noneValue) {
+        return someMapper.applyAsLong(value);
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> !null")
+    public T getOrElse(@Nullable T other) {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> !null")
+    public T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier) {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    public T orElseThrow() {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    public <X extends Throwable> T orElseThrow(@NotNull Supplier<? extends @NotNull X> exceptionSupplier) {
+        return value;
+    }
+
     @Override
     @NotNull
     @Contract("-> new")
@@ -0,0 +1,61 @@
+package com.github.domlen2003.noerror4j.parse;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The error of an input rejected by {@link Parsers}.
+ * <br><br>
+ * It does not capture a stack trace and builds its message only when asked for it, so rejecting dirty input
+ * costs little more than the scan that found the problem.
+ */
+@SuppressWarnings("unused")
+public final class ParseException extends RuntimeException {
+    private static final int MAX_INPUT_LENGTH = 64;
+
+    private final String type;
+    private final String input;
+    private final String reason;
+    private final int index;
+
+    ParseException(String type, CharSequence input, int start, int end, String reason, int index) {
+        super(null, null, false, false);
+        this.type = type;
+        this.input = input == null ? "null" : input.subSequence(start, Math.min(end, start + MAX_INPUT_LENGTH)).toString();
+        this.reason = reason;
+        this.index = index;
+    }
+
+    /**
+     * Gets the name of the type the input should have been parsed as, e.g. {@code int}.
+     *
+     * @return the target type name
+     */
+    @NotNull
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the rejected input, truncated to 64 characters.
+     *
+     * @return the input
+     */
+    @NotNull
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the index of the offending character in the original CharSequence.
+     *
+     * @return the index or -1 if the input was rejected as a whole
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Cannot parse '" + input + "' as " + type + ": " + reason + (index >= 0 ? " at index " + index : "");
+    }
+}
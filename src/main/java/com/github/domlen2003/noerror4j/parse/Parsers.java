@@ -0,0 +1,699 @@
+package com.github.domlen2003.noerror4j.parse;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Option;
+import com.github.domlen2003.noerror4j.option.Some;
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Parsers of primitives, UUIDs, enums and dates that never throw
+ * <br><br>
+ * Parsing with {@code Result.of(() -> Integer.parseInt(s))} throws, fills in and discards a stack trace for every
+ * bad input. These parsers scan the input once and report a rejected input as an {@link Err} of a stackless
+ * {@link ParseException}, as a {@link None}, or as a fallback value for the primitive types.
+ * Every parser also accepts a slice of a CharSequence, so fields of a larger buffer can be parsed in place.
+ * <pre>{@code
+ * Result<Integer> port = Parsers.parseInt(properties.get("port"));
+ * int limit = Parsers.parseIntOrElse(line, 10, 14, 100);
+ * Option<Color> color = Parsers.parseEnumOption(Color.class, value);
+ * }</pre>
+ * The accepted formats are strict: no surrounding whitespace, no type suffixes and, for dates, only
+ * {@code yyyy-MM-dd}.
+ */
+@SuppressWarnings("unused")
+public final class Parsers {
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final ClassValue<Map<String, Enum<?>>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Enum<?>> computeValue(@NotNull Class<?> type) {
+            Map<String, Enum<?>> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), (Enum<?>) constant);
+            }
+            return constants;
+        }
+    };
+
+    private Parsers() {
+    }
+
+    /**
+     * Parses a decimal int with an optional sign
+     *
+     * @param input the input
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<Integer> parseInt(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("int")) : parseInt(input, 0, input.length());
+    }
+
+    /**
+     * Parses a decimal int with an optional sign
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Integer> parseInt(@Nullable CharSequence input, int start, int end) {
+        long value = inRange(input, start, end) ? scanLong(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE) : INVALID;
+        return value != INVALID ? Ok.of((int) value) : Err.of(integerError("int", input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<Integer> parseIntOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseIntOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<Integer> parseIntOption(@Nullable CharSequence input, int start, int end) {
+        long value = inRange(input, start, end) ? scanLong(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE) : INVALID;
+        return value != INVALID ? Some.of((int) value) : None.instance();
+    }
+
+    public static int parseIntOrElse(@Nullable CharSequence input, int fallback) {
+        return input == null ? fallback : parseIntOrElse(input, 0, input.length(), fallback);
+    }
+
+    public static int parseIntOrElse(@Nullable CharSequence input, int start, int end, int fallback) {
+        long value = inRange(input, start, end) ? scanLong(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE) : INVALID;
+        return value != INVALID ? (int) value : fallback;
+    }
+
+    /**
+     * Parses a decimal long with an optional sign
+     *
+     * @param input the input
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<Long> parseLong(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("long")) : parseLong(input, 0, input.length());
+    }
+
+    /**
+     * Parses a decimal long with an optional sign
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Long> parseLong(@Nullable CharSequence input, int start, int end) {
+        if (inRange(input, start, end)) {
+            long value = scanLong(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (value != INVALID || isLongMinValue(input, start, end)) {
+                return Ok.of(value);
+            }
+        }
+        return Err.of(integerError("long", input, start, end, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<Long> parseLongOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseLongOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<Long> parseLongOption(@Nullable CharSequence input, int start, int end) {
+        if (inRange(input, start, end)) {
+            long value = scanLong(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (value != INVALID || isLongMinValue(input, start, end)) {
+                return Some.of(value);
+            }
+        }
+        return None.instance();
+    }
+
+    public static long parseLongOrElse(@Nullable CharSequence input, long fallback) {
+        return input == null ? fallback : parseLongOrElse(input, 0, input.length(), fallback);
+    }
+
+    public static long parseLongOrElse(@Nullable CharSequence input, int start, int end, long fallback) {
+        if (inRange(input, start, end)) {
+            long value = scanLong(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (value != INVALID || isLongMinValue(input, start, end)) {
+                return value;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Parses a decimal double with an optional sign, fraction and exponent, or {@code NaN} and {@code Infinity}
+     *
+     * @param input the input
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<Double> parseDouble(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("double")) : parseDouble(input, 0, input.length());
+    }
+
+    /**
+     * Parses a decimal double with an optional sign, fraction and exponent, or {@code NaN} and {@code Infinity}
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Double> parseDouble(@Nullable CharSequence input, int start, int end) {
+        if (!inRange(input, start, end)) {
+            return Err.of(rangeError("double", input, start, end));
+        }
+        int errorIndex = doubleErrorIndex(input, start, end);
+        return errorIndex < 0 ?
+                Ok.of(doubleValue(input, start, end)) :
+                Err.of(new ParseException("double", input, start, end, start == end ? "empty input" : "unexpected character", errorIndex));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<Double> parseDoubleOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseDoubleOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<Double> parseDoubleOption(@Nullable CharSequence input, int start, int end) {
+        return inRange(input, start, end) && doubleErrorIndex(input, start, end) < 0 ? Some.of(doubleValue(input, start, end)) : None.instance();
+    }
+
+    public static double parseDoubleOrElse(@Nullable CharSequence input, double fallback) {
+        return input == null ? fallback : parseDoubleOrElse(input, 0, input.length(), fallback);
+    }
+
+    public static double parseDoubleOrElse(@Nullable CharSequence input, int start, int end, double fallback) {
+        return inRange(input, start, end) && doubleErrorIndex(input, start, end) < 0 ? doubleValue(input, start, end) : fallback;
+    }
+
+    /**
+     * Parses {@code true} or {@code false}, ignoring case
+     *
+     * @param input the input
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<Boolean> parseBoolean(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("boolean")) : parseBoolean(input, 0, input.length());
+    }
+
+    /**
+     * Parses {@code true} or {@code false}, ignoring case
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<Boolean> parseBoolean(@Nullable CharSequence input, int start, int end) {
+        if (!inRange(input, start, end)) {
+            return Err.of(rangeError("boolean", input, start, end));
+        }
+        int value = scanBoolean(input, start, end);
+        return value >= 0 ? Ok.of(value == 1) : Err.of(new ParseException("boolean", input, start, end, "expected true or false", -1));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<Boolean> parseBooleanOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseBooleanOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<Boolean> parseBooleanOption(@Nullable CharSequence input, int start, int end) {
+        int value = inRange(input, start, end) ? scanBoolean(input, start, end) : -1;
+        return value >= 0 ? Some.of(value == 1) : None.instance();
+    }
+
+    public static boolean parseBooleanOrElse(@Nullable CharSequence input, boolean fallback) {
+        return input == null ? fallback : parseBooleanOrElse(input, 0, input.length(), fallback);
+    }
+
+    public static boolean parseBooleanOrElse(@Nullable CharSequence input, int start, int end, boolean fallback) {
+        int value = inRange(input, start, end) ? scanBoolean(input, start, end) : -1;
+        return value >= 0 ? value == 1 : fallback;
+    }
+
+    /**
+     * Parses a UUID in its canonical 8-4-4-4-12 hex digit form, ignoring case
+     *
+     * @param input the input
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<UUID> parseUuid(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("UUID")) : parseUuid(input, 0, input.length());
+    }
+
+    /**
+     * Parses a UUID in its canonical 8-4-4-4-12 hex digit form, ignoring case
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the value or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<UUID> parseUuid(@Nullable CharSequence input, int start, int end) {
+        if (!inRange(input, start, end)) {
+            return Err.of(rangeError("UUID", input, start, end));
+        }
+        UUID value = scanUuid(input, start, end);
+        return value != null ? Ok.of(value) : Err.of(new ParseException("UUID", input, start, end, "expected 8-4-4-4-12 hex digits", -1));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<UUID> parseUuidOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseUuidOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<UUID> parseUuidOption(@Nullable CharSequence input, int start, int end) {
+        UUID value = inRange(input, start, end) ? scanUuid(input, start, end) : null;
+        return value != null ? Some.of(value) : None.instance();
+    }
+
+    /**
+     * Parses the exact name of an enum constant, the constants are looked up in a map cached per enum
+     *
+     * @param type  the enum class
+     * @param input the input
+     * @return the constant or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <E extends Enum<E>> Result<E> parseEnum(@NotNull Class<E> type, @Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput(type.getSimpleName())) : parseEnum(type, input, 0, input.length());
+    }
+
+    /**
+     * Parses the exact name of an enum constant, the constants are looked up in a map cached per enum
+     *
+     * @param type  the enum class
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the constant or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _, _ -> new")
+    public static <E extends Enum<E>> Result<E> parseEnum(@NotNull Class<E> type, @Nullable CharSequence input, int start, int end) {
+        if (!inRange(input, start, end)) {
+            return Err.of(rangeError(type.getSimpleName(), input, start, end));
+        }
+        E value = scanEnum(type, input, start, end);
+        return value != null ? Ok.of(value) : Err.of(new ParseException(type.getSimpleName(), input, start, end, "no such constant", -1));
+    }
+
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <E extends Enum<E>> Option<E> parseEnumOption(@NotNull Class<E> type, @Nullable CharSequence input) {
+        return input == null ? None.instance() : parseEnumOption(type, input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _, _ -> new")
+    public static <E extends Enum<E>> Option<E> parseEnumOption(@NotNull Class<E> type, @Nullable CharSequence input, int start, int end) {
+        E value = inRange(input, start, end) ? scanEnum(type, input, start, end) : null;
+        return value != null ? Some.of(value) : None.instance();
+    }
+
+    /**
+     * Parses an ISO date of the form {@code yyyy-MM-dd}
+     *
+     * @param input the input
+     * @return the date or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static Result<LocalDate> parseLocalDate(@Nullable CharSequence input) {
+        return input == null ? Err.of(nullInput("LocalDate")) : parseLocalDate(input, 0, input.length());
+    }
+
+    /**
+     * Parses an ISO date of the form {@code yyyy-MM-dd}
+     *
+     * @param input the input
+     * @param start the index of the first character, inclusive
+     * @param end   the index after the last character, exclusive
+     * @return the date or an {@link Err} of a {@link ParseException}
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Result<LocalDate> parseLocalDate(@Nullable CharSequence input, int start, int end) {
+        if (!inRange(input, start, end)) {
+            return Err.of(rangeError("LocalDate", input, start, end));
+        }
+        LocalDate value = scanLocalDate(input, start, end);
+        return value != null ? Ok.of(value) : Err.of(new ParseException("LocalDate", input, start, end, "expected a valid yyyy-MM-dd date", -1));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static Option<LocalDate> parseLocalDateOption(@Nullable CharSequence input) {
+        return input == null ? None.instance() : parseLocalDateOption(input, 0, input.length());
+    }
+
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static Option<LocalDate> parseLocalDateOption(@Nullable CharSequence input, int start, int end) {
+        LocalDate value = inRange(input, start, end) ? scanLocalDate(input, start, end) : null;
+        return value != null ? Some.of(value) : None.instance();
+    }
+
+    private static boolean inRange(CharSequence input, int start, int end) {
+        return input != null && start >= 0 && start <= end && end <= input.length();
+    }
+
+    private static ParseException nullInput(String type) {
+        return new ParseException(type, null, 0, 0, "input is null", -1);
+    }
+
+    private static ParseException rangeError(String type, CharSequence input, int start, int end) {
+        if (input == null) {
+            return nullInput(type);
+        }
+        return new ParseException(type, "", 0, 0, "range [" + start + ", " + end + ") out of bounds for length " + input.length(), -1);
+    }
+
+    /**
+     * Scans a decimal integer, accumulating negatively like {@link Long#parseLong(String)} to reach the minimum
+     *
+     * @return the value or {@link #INVALID}, which is also returned for an input of exactly {@link Long#MIN_VALUE}
+     */
+    private static long scanLong(CharSequence input, int start, int end, long min, long max) {
+        if (start == end) {
+            return INVALID;
+        }
+        int index = start;
+        char first = input.charAt(index);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++index == end) {
+            return INVALID;
+        }
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = input.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return INVALID;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isLongMinValue(CharSequence input, int start, int end) {
+        String digits = "9223372036854775808";
+        if (start == end || input.charAt(start) != '-') {
+            return false;
+        }
+        // leading zeros are accepted like Long.parseLong does
+        int index = start + 1;
+        while (index < end && input.charAt(index) == '0') {
+            index++;
+        }
+        if (end - index != digits.length()) {
+            return false;
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            if (input.charAt(index + i) != digits.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ParseException integerError(String type, CharSequence input, int start, int end, long min, long max) {
+        if (!inRange(input, start, end)) {
+            return rangeError(type, input, start, end);
+        }
+        if (start == end) {
+            return new ParseException(type, input, start, end, "empty input", -1);
+        }
+        int index = start;
+        char first = input.charAt(index);
+        if (first == '-' || first == '+') {
+            index++;
+        }
+        if (index == end) {
+            return new ParseException(type, input, start, end, "no digits", index);
+        }
+        for (; index < end; index++) {
+            char c = input.charAt(index);
+            if (c < '0' || c > '9') {
+                return new ParseException(type, input, start, end, "unexpected character", index);
+            }
+        }
+        return new ParseException(type, input, start, end, "out of range [" + min + ", " + max + "]", -1);
+    }
+
+    /**
+     * Checks the syntax {@code [sign] (digits [. digits] | . digits) [(e|E) [sign] digits]}, {@code NaN} and
+     * {@code [sign] Infinity}
+     *
+     * @return the index of the first invalid character, end if the input ended too early, or -1 if it is valid
+     */
+    private static int doubleErrorIndex(CharSequence input, int start, int end) {
+        int index = start;
+        if (index < end && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+            index++;
+        }
+        if (index < end && (input.charAt(index) == 'N' || input.charAt(index) == 'I')) {
+            String word = input.charAt(index) == 'N' ? (index == start ? "NaN" : "") : "Infinity";
+            for (int i = 0; i < word.length(); i++, index++) {
+                if (index == end || input.charAt(index) != word.charAt(i)) {
+                    return index;
+                }
+            }
+            return word.isEmpty() ? index : index == end ? -1 : index;
+        }
+        int digits = 0;
+        while (index < end && isDigit(input.charAt(index))) {
+            index++;
+            digits++;
+        }
+        if (index < end && input.charAt(index) == '.') {
+            index++;
+            while (index < end && isDigit(input.charAt(index))) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return index;
+        }
+        if (index < end && (input.charAt(index) == 'e' || input.charAt(index) == 'E')) {
+            index++;
+            if (index < end && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+                index++;
+            }
+            if (index == end || !isDigit(input.charAt(index))) {
+                return index;
+            }
+            while (index < end && isDigit(input.charAt(index))) {
+                index++;
+            }
+        }
+        return index == end ? -1 : index;
+    }
+
+    /**
+     * Converts a valid double, exactly when the significand has at most 15 digits and the decimal exponent is
+     * within -22 and 22, falling back to {@link Double#parseDouble(String)} otherwise.
+     */
+    private static double doubleValue(CharSequence input, int start, int end) {
+        int index = start;
+        char first = input.charAt(index);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+        }
+        char c = input.charAt(index);
+        if (c == 'N') {
+            return Double.NaN;
+        }
+        if (c == 'I') {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        long significand = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            c = input.charAt(index);
+            if (c == '.') {
+                fraction = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                if (significand != 0 || c != '0') {
+                    if (++digits > 15) {
+                        return Double.parseDouble(input.subSequence(start, end).toString());
+                    }
+                    significand = significand * 10 + (c - '0');
+                }
+                if (fraction) {
+                    scale--;
+                }
+            }
+        }
+        if (index < end) {
+            long exponent = scanLong(input, index + 1, end, -10_000, 10_000);
+            if (exponent == INVALID) {
+                return Double.parseDouble(input.subSequence(start, end).toString());
+            }
+            scale += (int) exponent;
+        }
+        double value;
+        if (significand == 0) {
+            value = 0;
+        } else if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+            value = significand * POWERS_OF_TEN[scale];
+        } else if (scale < 0 && -scale < POWERS_OF_TEN.length) {
+            value = significand / POWERS_OF_TEN[-scale];
+        } else {
+            return Double.parseDouble(input.subSequence(start, end).toString());
+        }
+        return negative ? -value : value;
+    }
+
+    private static int scanBoolean(CharSequence input, int start, int end) {
+        if (equalsIgnoreCase(input, start, end, "true")) {
+            return 1;
+        }
+        return equalsIgnoreCase(input, start, end, "false") ? 0 : -1;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence input, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static UUID scanUuid(CharSequence input, int start, int end) {
+        if (end - start != 36) {
+            return null;
+        }
+        long mostSignificant = 0;
+        long leastSignificant = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = input.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int digit = hexDigit(c);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 19) {
+                mostSignificant = mostSignificant << 4 | digit;
+            } else {
+                leastSignificant = leastSignificant << 4 | digit;
+            }
+        }
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return c >= 'A' && c <= 'F' ? c - 'A' + 10 : -1;
+    }
+
+    private static <E extends Enum<E>> E scanEnum(Class<E> type, CharSequence input, int start, int end) {
+        Enum<?> constant = ENUM_CONSTANTS.get(type).get(input.subSequence(start, end).toString());
+        return constant != null ? type.cast(constant) : null;
+    }
+
+    private static LocalDate scanLocalDate(CharSequence input, int start, int end) {
+        if (end - start != 10 || input.charAt(start + 4) != '-' || input.charAt(start + 7) != '-') {
+            return null;
+        }
+        long year = scanDigits(input, start, start + 4);
+        long month = scanDigits(input, start + 5, start + 7);
+        long day = scanDigits(input, start + 8, start + 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        int length = switch ((int) month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        return day <= length ? LocalDate.of((int) year, (int) month, (int) day) : null;
+    }
+
+    private static long scanDigits(CharSequence input, int start, int end) {
+        long result = 0;
+        for (int index = start; index < end; index++) {
+            char c = input.charAt(index);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A piece of context attached to an {@link Err} with {@link Result#context(String, Object...)}
+ * <br><br>
+ * Breadcrumbs form an immutable, append-only chain: attaching context links one new node to the previous ones.
+ * Nothing is formatted until the breadcrumb is rendered, arguments that are {@link Supplier}s are only evaluated then.
+ */
+@SuppressWarnings("unused")
+public final class Breadcrumb {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String step;
+    private final Object[] keyValues;
+    private final Breadcrumb previous;
+
+    Breadcrumb(@Nullable String step, @Nullable Object[] keyValues, @Nullable Breadcrumb previous) {
+        this.step = step != null ? step : "null";
+        this.keyValues = keyValues != null ? keyValues : NO_ARGS;
+        this.previous = previous;
+    }
+
+    @NotNull
+    public String getStep() {
+        return step;
+    }
+
+    @Nullable
+    Breadcrumb getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Renders the step and its key/value arguments, e.g. {@code load-user{id=42, attempt=2}}
+     *
+     * @return the rendered breadcrumb
+     */
+    @NotNull
+    public String render() {
+        StringBuilder builder = new StringBuilder();
+        renderTo(builder);
+        return builder.toString();
+    }
+
+    void renderTo(@NotNull StringBuilder builder) {
+        builder.append(step);
+        if (keyValues.length == 0) {
+            return;
+        }
+        builder.append('{');
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(keyValues[i]).append('=');
+            builder.append(i + 1 < keyValues.length ? renderValue(keyValues[i + 1]) : "?");
+        }
+        builder.append('}');
+    }
+
+    private static Object renderValue(Object value) {
+        if (value instanceof Supplier<?> supplier) {
+            try {
+                return supplier.get();
+            } catch (Throwable throwable) {
+                return "<" + throwable + ">";
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
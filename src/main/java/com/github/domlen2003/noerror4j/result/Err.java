@@ -7,15 +7,29 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @SuppressWarnings("unused")
 public final class Err<T> extends Result<T> {
     private final Throwable error;
+    private final Breadcrumb breadcrumb;
 
     private Err(@NotNull Throwable error) {
+        this(error, null);
+        ErrOrigins.sample();
+    }
+
+    private Err(@NotNull Throwable error, @Nullable Breadcrumb breadcrumb) {
         this.error = error;
+        this.breadcrumb = breadcrumb;
     }
 
     @NotNull
@@ -52,18 +66,54 @@ public final class Err<T> extends Result<T> {
         return error;
     }
 
+    /**
+     * Gets the context attached with {@link #context(String, Object...)} while the error passed through.
+     *
+     * @return the breadcrumbs, oldest first
+     */
+    @NotNull
+    @Unmodifiable
+    public List<Breadcrumb> getBreadcrumbs() {
+        if (breadcrumb == null) {
+            return List.of();
+        }
+        ArrayList<Breadcrumb> breadcrumbs = new ArrayList<>();
+        for (Breadcrumb current = breadcrumb; current != null; current = current.getPrevious()) {
+            breadcrumbs.add(current);
+        }
+        Collections.reverse(breadcrumbs);
+        return Collections.unmodifiableList(breadcrumbs);
+    }
+
+    /**
+     * Renders the attached context, e.g. {@code load-order{id=7} > load-user{id=42}}
+     *
+     * @return the rendered breadcrumbs, oldest first, or an empty String if there are none
+     */
+    @NotNull
+    public String renderContext() {
+        StringBuilder builder = new StringBuilder();
+        for (Breadcrumb current : getBreadcrumbs()) {
+            if (!builder.isEmpty()) {
+                builder.append(" > ");
+            }
+            current.renderTo(builder);
+        }
+        return builder.toString();
+    }
+
     @Override
     @NotNull
     @Contract("_ -> new")
     public <U> Result<U> mapOk(@Nullable Function<@NotNull T, @Nullable U> mapper) {
-        return new Err<>(error);
+        return new Err<>(error, breadcrumb);
     }
 
     @Override
     @NotNull
     @Contract("_ -> new")
     public <U> Result<U> flatMapOk(@Nullable Function<@NotNull T, @Nullable Result<U>> mapper) {
-        return new Err<>(error);
+        return new Err<>(error, breadcrumb);
     }
 
     @Override
@@ -71,13 +121,13 @@ public final class Err<T> extends Result<T> {
     @Contract("_ -> new")
     public Result<T> mapErr(@Nullable Function<@NotNull Throwable, @Nullable T> mapper) {
         if (mapper == null) {
-            return new Err<>(new NullPointerException("Mapper for Result.mapErr(mapper) is null"));
+            return carry(new NullPointerException("Mapper for Result.mapErr(mapper) is null"));
         }
         try {
             T result = mapper.apply(error);
-            return result == null ? new Err<>(new NullPointerException("Mapper for Result.mapErr(mapper) returned null")) : Ok.of(result);
+            return result == null ? carry(new NullPointerException("Mapper for Result.mapErr(mapper) returned null")) : Ok.of(result);
         } catch (Throwable throwable) {
-            return new Err<>(throwable);
+            return carry(throwable);
         }
     }
 
@@ -86,16 +136,71 @@ public final class Err<T> extends Result<T> {
     @Contract("_ -> new")
     public Result<T> flatMapErr(@Nullable Function<@NotNull Throwable, @Nullable Result<T>> mapper) {
         if (mapper == null) {
-            return new Err<>(new NullPointerException("Mapper for Result.flatMapErr(mapper) is null"));
+            return carry(new NullPointerException("Mapper for Result.flatMapErr(mapper) is null"));
         }
         try {
             Result<T> result = mapper.apply(error);
-            return result == null ? new Err<>(new NullPointerException("Mapper for Result.flatMapErr(mapper) returned null")) : result;
+            return result == null ? carry(new NullPointerException("Mapper for Result.flatMapErr(mapper) returned null")) : result;
+        } catch (Throwable throwable) {
+            return carry(throwable);
+        }
+    }
+
+    @Override
+    @NotNull
+    @Contract("_, _ -> new")
+    public <E extends Throwable> Result<T> recover(@Nullable Class<E> type, @Nullable Function<? super @NotNull E, ? extends @Nullable T> mapper) {
+        if (type == null || mapper == null) {
+            return carry(new NullPointerException("Type or mapper for Result.recover(type, mapper) is null"));
+        }
+        if (!type.isInstance(error)) {
+            return this;
+        }
+        try {
+            T result = mapper.apply(type.cast(error));
+            return result == null ? carry(new NullPointerException("Mapper for Result.recover(type, mapper) returned null")) : Ok.of(result);
+        } catch (Throwable throwable) {
+            return carry(throwable);
+        }
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> new")
+    public Result<T> recover(@Nullable Recovery<T> recovery) {
+        if (recovery == null) {
+            return carry(new NullPointerException("Recovery for Result.recover(recovery) is null"));
+        }
+        try {
+            Result<T> result = recovery.recover(error);
+            return result != null ? result : this;
         } catch (Throwable throwable) {
-            return new Err<>(throwable);
+            return carry(throwable);
         }
     }
 
+    @Override
+    @NotNull
+    @Contract("_ -> new")
+    public Result<T> context(@Nullable String step) {
+        return new Err<>(error, new Breadcrumb(step, null, breadcrumb));
+    }
+
+    @Override
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public Result<T> context(@Nullable String step, @Nullable String key, @Nullable Object value) {
+        return new Err<>(error, new Breadcrumb(step, new Object[]{key, value}, breadcrumb));
+    }
+
+    @Override
+    @NotNull
+    @Contract("_, _ -> new")
+    public Result<T> context(@Nullable String step, @Nullable Object... keyValues) {
+        // copied, the caller may reuse the array before the breadcrumb is rendered
+        return new Err<>(error, new Breadcrumb(step, keyValues != null ? keyValues.clone() : null, breadcrumb));
+    }
+
     @Override
     @NotNull
     @Contract("_ -> this")
@@ -117,12 +222,57 @@ public final class Err<T> extends Result<T> {
         return this;
     }
 
+    @Override
+    public <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> okMapper,
+                      @NotNull Function<? super @NotNull Throwable, ? extends @Nullable R> errMapper) {
+        return errMapper.apply(error);
+    }
+
+    @Override
+    public int foldToInt(@NotNull ToIntFunction<? super @NotNull T> okMapper,
+                         @NotNull ToIntFunction<? super @NotNull Throwable> errMapper) {
+        return errMapper.applyAsInt(error);
+    }
+
+    @Override
+    public long foldToLong(@NotNull ToLongFunction<? super @NotNull T> okMapper,
+                           @NotNull ToLongFunction<? super @NotNull Throwable> errMapper) {
+        return errMapper.applyAsLong(error);
+    }
+
+    @Override
+    @Contract("_ -> param1")
+    public T getOrElse(@Nullable T other) {
+        sinkDropped("Error dropped in Result.getOrElse(other)");
+        return other;
+    }
+
+    @Override
+    public T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier) {
+        sinkDropped("Error dropped in Result.getOrElseGet(supplier)");
+        return supplier.get();
+    }
+
+    @Override
+    @NotNull
+    @Contract("-> fail")
+    public T orElseThrow() {
+        throw new NoSuchElementException("Result is an Err", error);
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> fail")
+    public <X extends Throwable> T orElseThrow(@NotNull Function<? super @NotNull Throwable, ? extends @NotNull X> errMapper) throws X {
+        throw errMapper.apply(error);
+    }
+
     @Override
     @NotNull
     @Unmodifiable
     @Contract("-> new")
     public Option<T> asOption() {
-        sinkError("Error dropped when converting Result.asOption()", error);
+        sinkDropped("Error dropped when converting Result.asOption()");
         return None.instance();
     }
 
@@ -132,6 +282,22 @@ public final class Err<T> extends Result<T> {
         return false;
     }
 
+    /**
+     * Creates an Err of a new error that keeps the context of this one
+     */
+    private <U> Err<U> carry(Throwable newError) {
+        Err<U> err = new Err<>(newError, breadcrumb);
+        ErrOrigins.sample();
+        return err;
+    }
+
+    private void sinkDropped(String message) {
+        // the context is only rendered if someone receives it
+        if (errorSink != null) {
+            sinkError(breadcrumb == null ? message : message + ", context=" + renderContext(), error);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -142,6 +308,6 @@ public final class Err<T> extends Result<T> {
 
     @Override
     public String toString() {
-        return "Err[" + error + "]";
+        return breadcrumb == null ? "Err[" + error + "]" : "Err[" + error + ", context=" + renderContext() + "]";
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Sampled capture of the call sites creating {@link Err}s
+ * <br><br>
+ * Errors passed around without stack traces do not tell where a failure came from. When enabled, one in every
+ * {@code sampleRate} new Errs records its call site with a {@link StackWalker}, skipping the frames of the JDK and of
+ * the {@code com.github.domlen2003.noerror4j} packages. The call sites are counted in a bounded histogram, so the hottest failure sources can be found
+ * in production. Errs that are only passed on (e.g. by {@link Result#mapOk(java.util.function.Function)}) are not
+ * counted again.
+ * <pre>{@code
+ * ErrOrigins.enable(1000, 3, 256);
+ * ...
+ * ErrOrigins.getHistogram().forEach((site, count) -> log.info("{}x {}", count, site));
+ * }</pre>
+ * While disabled, the cost per Err is a single volatile read.
+ */
+@SuppressWarnings("unused")
+public final class ErrOrigins {
+    private static final String UNKNOWN = "<unknown>";
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    // by package, not by code source: in a shaded jar the application shares the code source of this library
+    private static final String LIBRARY_PACKAGE = "com.github.domlen2003.noerror4j.";
+    private static final ClassValue<Boolean> SKIPPED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(@NotNull Class<?> type) {
+            ClassLoader loader = type.getClassLoader();
+            return loader == null || loader == ClassLoader.getPlatformClassLoader() || type.getName().startsWith(LIBRARY_PACKAGE);
+        }
+    };
+    private static volatile Sampler sampler;
+
+    private ErrOrigins() {
+    }
+
+    /**
+     * Starts sampling with an empty histogram
+     *
+     * @param sampleRate the average number of Err creations per sample, 1 captures every Err
+     * @param maxFrames  the number of call site frames recorded per sample
+     * @param maxSites   the maximum number of distinct call sites, further ones are only counted as overflow (also
+     *                   while other threads add sites at the same time)
+     */
+    public static void enable(int sampleRate, int maxFrames, int maxSites) {
+        if (sampleRate < 1 || maxFrames < 1 || maxSites < 1) {
+            throw new IllegalArgumentException("sampleRate, maxFrames and maxSites must be positive");
+        }
+        sampler = new Sampler(sampleRate, maxFrames, maxSites);
+    }
+
+    /**
+     * Stops sampling and drops the histogram
+     */
+    public static void disable() {
+        sampler = null;
+    }
+
+    public static boolean isEnabled() {
+        return sampler != null;
+    }
+
+    /**
+     * Gets a snapshot of the sampled call sites.
+     * Each site is rendered as its frames, innermost first, joined by {@code " <- "}.
+     *
+     * @return the sample count by call site, hottest first, empty if disabled
+     */
+    @NotNull
+    @Unmodifiable
+    public static Map<String, Long> getHistogram() {
+        Sampler current = sampler;
+        if (current == null) {
+            return Map.of();
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(current.sites.size());
+        current.sites.forEach((site, count) -> entries.add(Map.entry(site, count.sum())));
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            histogram.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(histogram);
+    }
+
+    /**
+     * Gets the number of samples not counted in the histogram because it was full
+     *
+     * @return the overflow count, 0 if disabled
+     */
+    public static long getOverflowCount() {
+        Sampler current = sampler;
+        return current == null ? 0 : current.overflow.sum();
+    }
+
+    static void sample() {
+        Sampler current = sampler;
+        if (current != null && (current.sampleRate == 1 || ThreadLocalRandom.current().nextInt(current.sampleRate) == 0)) {
+            current.record();
+        }
+    }
+
+    private static final class Sampler {
+        private final int sampleRate;
+        private final int maxFrames;
+        private final int maxSites;
+        private final ConcurrentHashMap<String, LongAdder> sites = new ConcurrentHashMap<>();
+        // reserved before a site is added, so the histogram never exceeds maxSites under concurrency
+        private final AtomicInteger siteCount = new AtomicInteger();
+        private final LongAdder overflow = new LongAdder();
+
+        private Sampler(int sampleRate, int maxFrames, int maxSites) {
+            this.sampleRate = sampleRate;
+            this.maxFrames = maxFrames;
+            this.maxSites = maxSites;
+        }
+
+        private void record() {
+            String site = WALKER.walk(frames -> frames
+                    .filter(frame -> !SKIPPED.get(frame.getDeclaringClass()))
+                    .limit(maxFrames)
+                    .map(frame -> frame.getClassName() + "." + frame.getMethodName() + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                    .collect(Collectors.joining(" <- ")));
+            if (site.isEmpty()) {
+                site = UNKNOWN;
+            }
+            LongAdder count = sites.get(site);
+            if (count == null) {
+                if (siteCount.incrementAndGet() > maxSites) {
+                    siteCount.decrementAndGet();
+                    overflow.increment();
+                    return;
+                }
+                LongAdder created = new LongAdder();
+                count = sites.computeIfAbsent(site, key -> created);
+                if (count != created) {
+                    // another thread added the site first
+                    siteCount.decrementAndGet();
+                }
+            }
+            count.increment();
+        }
+    }
+}
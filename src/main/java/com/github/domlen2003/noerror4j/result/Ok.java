@@ -8,6 +8,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @SuppressWarnings("unused")
 public final class Ok<T> extends Result<T> {
@@ -72,6 +75,41 @@ public final class Ok<T> extends Result<T> {
         return this;
     }
 
+    @Override
+    @NotNull
+    @Contract("_, _ -> this")
+    public <E extends Throwable> Result<T> recover(@Nullable Class<E> type, @Nullable Function<? super @NotNull E, ? extends @Nullable T> mapper) {
+        return this;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> this")
+    public Result<T> recover(@Nullable Recovery<T> recovery) {
+        return this;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> this")
+    public Result<T> context(@Nullable String step) {
+        return this;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_, _, _ -> this")
+    public Result<T> context(@Nullable String step, @Nullable String key, @Nullable Object value) {
+        return this;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_, _ -> this")
+    public Result<T> context(@Nullable String step, @Nullable Object... keyValues) {
+        return this;
+    }
+
     @Override
     @NotNull
     @Contract("_ -> this")
@@ -93,6 +131,50 @@ public final class Ok<T> extends Result<T> {
         return this;
     }
 
+    @Override
+    public <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> okMapper,
+                      @NotNull Function<? super @NotNull Throwable, ? extends @Nullable R> errMapper) {
+        return okMapper.apply(value);
+    }
+
+    @Override
+    public int foldToInt(@NotNull ToIntFunction<? super @NotNull T> okMapper,
+                         @NotNull ToIntFunction<? super @NotNull Throwable> errMapper) {
+        return okMapper.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(@NotNull ToLongFunction<? super @NotNull T> okMapper,
+                           @NotNull ToLongFunction<? super @NotNull Throwable> errMapper) {
+        return okMapper.applyAsLong(value);
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> !null")
+    public T getOrElse(@Nullable T other) {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> !null")
+    public T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier) {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    public T orElseThrow() {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    public <X extends Throwable> T orElseThrow(@NotNull Function<? super @NotNull Throwable, ? extends @NotNull X> errMapper) {
+        return value;
+    }
+
     @Override
     @NotNull
     @Contract("-> new")
@@ -0,0 +1,135 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A reusable table of error handlers by exception class, applied with {@link Result#recover(Recovery)}
+ * <br><br>
+ * The handler registered for the most specific superclass of an error is used. It is resolved once per concrete
+ * error class and cached in a {@link ClassValue}, so recovering is a constant-time lookup instead of an
+ * {@code instanceof} chain.
+ * <pre>{@code
+ * private static final Recovery<Response> RECOVERY = Recovery.<Response>of()
+ *         .on(FileNotFoundException.class, e -> Response.notFound())
+ *         .on(IOException.class, e -> Response.unavailable())
+ *         .onFlat(SecurityException.class, e -> Err.of("Access denied", e));
+ *
+ * Result<Response> response = load(request).recover(RECOVERY);
+ * }</pre>
+ * Tables are immutable, {@link #on(Class, Function)} returns a new table, so they can be shared between threads.
+ *
+ * @param <T> the type of the recovered value
+ */
+@SuppressWarnings("unused")
+public final class Recovery<T> {
+    private static final Recovery<?> EMPTY = new Recovery<>(Map.of());
+    private static final Function<Throwable, ?> NO_HANDLER = error -> null;
+
+    private final Map<Class<?>, Function<Throwable, Result<T>>> handlers;
+    private final ClassValue<Function<Throwable, Result<T>>> resolved = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Function<Throwable, Result<T>> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Function<Throwable, Result<T>> handler = handlers.get(current);
+                if (handler != null) {
+                    return handler;
+                }
+            }
+            return (Function<Throwable, Result<T>>) NO_HANDLER;
+        }
+    };
+
+    private Recovery(Map<Class<?>, Function<Throwable, Result<T>>> handlers) {
+        this.handlers = handlers;
+    }
+
+    /**
+     * Gets an empty table that recovers nothing.
+     *
+     * @return the empty Recovery
+     */
+    @NotNull
+    @Contract(" -> !null")
+    @SuppressWarnings("unchecked")
+    public static <T> Recovery<T> of() {
+        return (Recovery<T>) EMPTY;
+    }
+
+    /**
+     * Registers a handler mapping errors of a class (and its subclasses) to a value
+     *
+     * @param type    the class of errors to handle
+     * @param handler the function to map the error to a value
+     * @return a new table including the handler, replacing any handler previously registered for the same class
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public <E extends Throwable> Recovery<T> on(@NotNull Class<E> type, @NotNull Function<? super E, ? extends @Nullable T> handler) {
+        return with(type, error -> {
+            T value = handler.apply(type.cast(error));
+            if (value == null) {
+                throw new NullPointerException("Handler for Recovery.on(type, handler) returned null");
+            }
+            return Ok.of(value);
+        });
+    }
+
+    /**
+     * Registers a handler mapping errors of a class (and its subclasses) to a new Result
+     *
+     * @param type    the class of errors to handle
+     * @param handler the function to map the error to a Result
+     * @return a new table including the handler, replacing any handler previously registered for the same class
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public <E extends Throwable> Recovery<T> onFlat(@NotNull Class<E> type, @NotNull Function<? super E, ? extends @Nullable Result<T>> handler) {
+        return with(type, error -> {
+            Result<T> result = handler.apply(type.cast(error));
+            if (result == null) {
+                throw new NullPointerException("Handler for Recovery.onFlat(type, handler) returned null");
+            }
+            return result;
+        });
+    }
+
+    private Recovery<T> with(Class<?> type, Function<Throwable, Result<T>> handler) {
+        Map<Class<?>, Function<Throwable, Result<T>>> copy = new LinkedHashMap<>(handlers);
+        copy.put(type, handler);
+        return new Recovery<>(copy);
+    }
+
+    /**
+     * Applies the most specific handler to an error
+     *
+     * @param error the error to recover from
+     * @return the handler's Result, an {@link Err} of the error if no handler matches, or an {@link Err} of what the handler threw
+     */
+    @NotNull
+    public Result<T> apply(@NotNull Throwable error) {
+        try {
+            Result<T> result = recover(error);
+            return result != null ? result : Err.of(error);
+        } catch (Throwable throwable) {
+            return Err.of(throwable);
+        }
+    }
+
+    /**
+     * Throws what the handler threw, so {@link Err#recover(Recovery)} can keep the breadcrumbs of the failed Err
+     *
+     * @return the recovered Result or null if no handler matches the error
+     */
+    @Nullable
+    Result<T> recover(@NotNull Throwable error) {
+        Function<Throwable, Result<T>> handler = resolved.get(error.getClass());
+        return handler == NO_HANDLER ? null : handler.apply(error);
+    }
+}
@@ -7,10 +7,13 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.NoSuchElementException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A Result type that can be used to return a value or an error
@@ -142,6 +145,59 @@ public sealed abstract class Result<T> permits Err, Ok {
     @NotNull
     public abstract Result<T> flatMapErr(@Nullable Function<@NotNull Throwable, @Nullable Result<T>> mapper);
 
+    /**
+     * If the result is an {@link Err} of the given class (or a subclass) maps the error to a new Value,
+     * otherwise returns the current Result
+     *
+     * @param type   the class of errors to recover from
+     * @param mapper the function to map the error
+     * @return the new Result
+     */
+    @NotNull
+    public abstract <E extends Throwable> Result<T> recover(@Nullable Class<E> type, @Nullable Function<? super @NotNull E, ? extends @Nullable T> mapper);
+
+    /**
+     * If the result is {@link Err} recovers with the most specific handler of the table or returns the {@link Err}
+     * if no handler matches
+     *
+     * @param recovery the handlers to recover with
+     * @return the new Result
+     */
+    @NotNull
+    public abstract Result<T> recover(@Nullable Recovery<T> recovery);
+
+    /**
+     * Attaches a breadcrumb to an {@link Err} passing through, an {@link Ok} is returned unchanged
+     * <br><br>
+     * Context is only rendered when the Err is inspected, see {@link Err#getBreadcrumbs()}.
+     *
+     * @param step the name of the current step
+     * @return the current Result, or the Err with the breadcrumb attached
+     */
+    @NotNull
+    public abstract Result<T> context(@Nullable String step);
+
+    /**
+     * Attaches a breadcrumb with one key/value argument to an {@link Err} passing through, an {@link Ok} is returned unchanged
+     *
+     * @param step  the name of the current step
+     * @param key   the key of the argument
+     * @param value the value of the argument, a {@link Supplier} is evaluated lazily when rendered
+     * @return the current Result, or the Err with the breadcrumb attached
+     */
+    @NotNull
+    public abstract Result<T> context(@Nullable String step, @Nullable String key, @Nullable Object value);
+
+    /**
+     * Attaches a breadcrumb with key/value arguments to an {@link Err} passing through, an {@link Ok} is returned unchanged
+     *
+     * @param step      the name of the current step
+     * @param keyValues alternating keys and values, {@link Supplier} values are evaluated lazily when rendered
+     * @return the current Result, or the Err with the breadcrumb attached
+     */
+    @NotNull
+    public abstract Result<T> context(@Nullable String step, @Nullable Object... keyValues);
+
     /**
      * Sends a throwable to the consumer when the Result is an{@link Err}
      *
@@ -160,6 +216,75 @@ public sealed abstract class Result<T> permits Err, Ok {
     @NotNull
     public abstract Result<T> doOnOk(@Nullable Consumer<@NotNull T> consumer);
 
+    /**
+     * Folds the Result into a single value by applying the matching function
+     * <br><br>
+     * Exceptions thrown by the functions are not caught, as there is no Result left to carry them.
+     *
+     * @param okMapper  the function to apply to the value of an {@link Ok}
+     * @param errMapper the function to apply to the error of an {@link Err}
+     * @return the result of the applied function
+     */
+    @Nullable
+    public abstract <R> R fold(@NotNull Function<? super @NotNull T, ? extends @Nullable R> okMapper,
+                               @NotNull Function<? super @NotNull Throwable, ? extends @Nullable R> errMapper);
+
+    /**
+     * Folds the Result into a primitive int without boxing
+     *
+     * @param okMapper  the function to apply to the value of an {@link Ok}
+     * @param errMapper the function to apply to the error of an {@link Err}
+     * @return the result of the applied function
+     */
+    public abstract int foldToInt(@NotNull ToIntFunction<? super @NotNull T> okMapper,
+                                  @NotNull ToIntFunction<? super @NotNull Throwable> errMapper);
+
+    /**
+     * Folds the Result into a primitive long without boxing
+     *
+     * @param okMapper  the function to apply to the value of an {@link Ok}
+     * @param errMapper the function to apply to the error of an {@link Err}
+     * @return the result of the applied function
+     */
+    public abstract long foldToLong(@NotNull ToLongFunction<? super @NotNull T> okMapper,
+                                    @NotNull ToLongFunction<? super @NotNull Throwable> errMapper);
+
+    /**
+     * Gets the value of an {@link Ok} or the given value, the error of an {@link Err} is logged
+     *
+     * @param other the value to return for an {@link Err}
+     * @return the value
+     */
+    @Contract("!null -> !null")
+    public abstract T getOrElse(@Nullable T other);
+
+    /**
+     * Gets the value of an {@link Ok} or the supplied value, the error of an {@link Err} is logged
+     *
+     * @param supplier the supplier of the value for an {@link Err}, only called for an {@link Err}
+     * @return the value
+     */
+    public abstract T getOrElseGet(@NotNull Supplier<? extends @Nullable T> supplier);
+
+    /**
+     * Gets the value of an {@link Ok} or throws
+     *
+     * @return the value
+     * @throws NoSuchElementException with the error of the {@link Err} as cause
+     */
+    @NotNull
+    public abstract T orElseThrow();
+
+    /**
+     * Gets the value of an {@link Ok} or throws the mapped error
+     *
+     * @param errMapper the function to map the error of an {@link Err} to the exception to throw
+     * @return the value
+     * @throws X the mapped error
+     */
+    @NotNull
+    public abstract <X extends Throwable> T orElseThrow(@NotNull Function<? super @NotNull Throwable, ? extends @NotNull X> errMapper) throws X;
+
     /**
      * If the result is {@link Ok} maps the value of Ok to a new {@link Some} or logs the error and returns {@link None}
      *
@@ -0,0 +1,185 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A suspended, stack-safe computation of a {@link Result}
+ * <br><br>
+ * Recursive algorithms written with {@link Result#flatMapOk(Function)} grow the Java stack once per step.
+ * A Trampoline describes the same chain as data and {@link #run()} evaluates it in a loop, keeping pending
+ * continuations on the heap, so arbitrarily deep chains run in constant stack space.
+ * <pre>{@code
+ * Trampoline<Long> sum(long n, long acc) {
+ *     if (n == 0) {
+ *         return Trampoline.ok(acc);
+ *     }
+ *     return Trampoline.suspend(() -> sum(n - 1, acc + n));
+ * }
+ * Result<Long> result = sum(1_000_000, 0).run();
+ * }</pre>
+ * An {@link Err} short-circuits all pending continuations, exactly like {@link Err#flatMapOk(Function)}.
+ *
+ * @param <T> the type of the value
+ */
+@SuppressWarnings("unused")
+public sealed abstract class Trampoline<T> {
+
+    private Trampoline() {
+    }
+
+    /**
+     * Creates a finished Trampoline of a Result
+     *
+     * @param result the result of the computation
+     * @return the Trampoline
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Trampoline<T> done(@Nullable Result<T> result) {
+        return new Done<>(result != null ? result : Err.of(new NullPointerException("Result for Trampoline.done(result) is null")));
+    }
+
+    /**
+     * Creates a finished Trampoline of a value
+     *
+     * @param value the value of the computation
+     * @return the Trampoline of an {@link Ok}, or an {@link Err} if the value is null
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Trampoline<T> ok(@Nullable T value) {
+        return new Done<>(Ok.of(value));
+    }
+
+    /**
+     * Creates a finished Trampoline of an error
+     *
+     * @param error the error of the computation
+     * @return the Trampoline of an {@link Err}
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Trampoline<T> err(@Nullable Throwable error) {
+        return new Done<>(Err.of(error));
+    }
+
+    /**
+     * Defers the next step of a computation, this is what makes recursive definitions stack-safe
+     *
+     * @param next the supplier of the next step
+     * @return the Trampoline
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Trampoline<T> suspend(@Nullable Supplier<@Nullable Trampoline<T>> next) {
+        if (next == null) {
+            return err(new NullPointerException("Supplier for Trampoline.suspend(next) is null"));
+        }
+        return new Suspend<>(next);
+    }
+
+    /**
+     * Continues the computation with the value of an {@link Ok}, an {@link Err} skips the mapper
+     *
+     * @param mapper the function to get the next step from the value
+     * @return the Trampoline
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <U> Trampoline<U> flatMapOk(@Nullable Function<@NotNull T, @Nullable Trampoline<U>> mapper) {
+        if (mapper == null) {
+            return err(new NullPointerException("Mapper for Trampoline.flatMapOk(mapper) is null"));
+        }
+        return new FlatMap<>(this, mapper);
+    }
+
+    /**
+     * Maps the value of an {@link Ok}, an {@link Err} skips the mapper
+     *
+     * @param mapper the function to map the value
+     * @return the Trampoline
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public <U> Trampoline<U> mapOk(@Nullable Function<@NotNull T, @Nullable U> mapper) {
+        if (mapper == null) {
+            return err(new NullPointerException("Mapper for Trampoline.mapOk(mapper) is null"));
+        }
+        return new FlatMap<>(this, value -> ok(mapper.apply(value)));
+    }
+
+    /**
+     * Evaluates the computation in constant stack space
+     *
+     * @return the Result of the computation, an {@link Err} if any step threw or returned null
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Result<T> run() {
+        Function[] continuations = new Function[16];
+        int size = 0;
+        Trampoline current = this;
+        while (true) {
+            if (current instanceof FlatMap flatMap) {
+                if (size == continuations.length) {
+                    Function[] grown = new Function[size << 1];
+                    System.arraycopy(continuations, 0, grown, 0, size);
+                    continuations = grown;
+                }
+                continuations[size++] = flatMap.mapper;
+                current = flatMap.source;
+            } else if (current instanceof Suspend suspend) {
+                try {
+                    Trampoline next = (Trampoline) suspend.next.get();
+                    current = next != null ? next : err(new NullPointerException("Supplier for Trampoline.suspend(next) returned null"));
+                } catch (Throwable throwable) {
+                    current = err(throwable);
+                }
+            } else {
+                Result result = ((Done) current).result;
+                if (size == 0 || !(result instanceof Ok ok)) {
+                    return result;
+                }
+                Function mapper = continuations[--size];
+                continuations[size] = null;
+                try {
+                    Trampoline next = (Trampoline) mapper.apply(ok.getValue());
+                    current = next != null ? next : err(new NullPointerException("Mapper for Trampoline.flatMapOk(mapper) returned null"));
+                } catch (Throwable throwable) {
+                    current = err(throwable);
+                }
+            }
+        }
+    }
+
+    private static final class Done<T> extends Trampoline<T> {
+        private final Result<T> result;
+
+        private Done(Result<T> result) {
+            this.result = result;
+        }
+    }
+
+    private static final class Suspend<T> extends Trampoline<T> {
+        private final Supplier<Trampoline<T>> next;
+
+        private Suspend(Supplier<Trampoline<T>> next) {
+            this.next = next;
+        }
+    }
+
+    private static final class FlatMap<S, T> extends Trampoline<T> {
+        private final Trampoline<S> source;
+        private final Function<S, Trampoline<T>> mapper;
+
+        private FlatMap(Trampoline<S> source, Function<S, Trampoline<T>> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+    }
+}
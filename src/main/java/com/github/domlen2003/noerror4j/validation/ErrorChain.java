@@ -0,0 +1,69 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable concatenation tree of errors.
+ * <br><br>
+ * Concatenating two chains only allocates a single node referencing both sides, so accumulating errors
+ * never copies the errors collected so far. The tree is flattened (iteratively) only when it is inspected.
+ */
+final class ErrorChain {
+    private final Throwable error;
+    private final ErrorChain left;
+    private final ErrorChain right;
+    private final int size;
+
+    private ErrorChain(Throwable error, ErrorChain left, ErrorChain right, int size) {
+        this.error = error;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    static ErrorChain of(@NotNull Throwable error) {
+        return new ErrorChain(error, null, null, 1);
+    }
+
+    @NotNull
+    @Contract("_, _ -> new")
+    static ErrorChain concat(@NotNull ErrorChain left, @NotNull ErrorChain right) {
+        return new ErrorChain(null, left, right, left.size + right.size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Flattens the chain in insertion order without recursing, so arbitrarily deep chains are safe.
+     *
+     * @return the errors of the chain
+     */
+    @NotNull
+    @Unmodifiable
+    List<Throwable> toList() {
+        List<Throwable> errors = new ArrayList<>(size);
+        ArrayDeque<ErrorChain> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            ErrorChain node = stack.pop();
+            if (node.error != null) {
+                errors.add(node.error);
+            } else {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        return Collections.unmodifiableList(errors);
+    }
+}
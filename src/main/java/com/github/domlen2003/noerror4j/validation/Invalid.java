@@ -0,0 +1,114 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.function.Function;
+
+@SuppressWarnings("unused")
+public final class Invalid<T> extends Validation<T> {
+    private final ErrorChain chain;
+
+    private Invalid(@NotNull ErrorChain chain) {
+        this.chain = chain;
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Invalid<T> of(@Nullable Throwable error) {
+        return error != null ?
+                new Invalid<>(ErrorChain.of(error)) :
+                new Invalid<>(ErrorChain.of(new NullPointerException("Invalid.of() error is null")));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Invalid<T> of(@Nullable String message) {
+        return message != null ?
+                new Invalid<>(ErrorChain.of(new RuntimeException(message))) :
+                new Invalid<>(ErrorChain.of(new NullPointerException("Invalid.of() message is null")));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    static <T> Invalid<T> ofChain(@NotNull ErrorChain chain) {
+        return new Invalid<>(chain);
+    }
+
+    @NotNull
+    ErrorChain getChain() {
+        return chain;
+    }
+
+    /**
+     * Gets all accumulated errors in the order they were combined.
+     *
+     * @return the errors
+     */
+    @NotNull
+    @Unmodifiable
+    public List<Throwable> getErrors() {
+        return chain.toList();
+    }
+
+    /**
+     * Gets the number of accumulated errors without flattening them.
+     *
+     * @return the error count
+     */
+    public int getErrorCount() {
+        return chain.size();
+    }
+
+    @Override
+    @NotNull
+    @SuppressWarnings("unchecked")
+    @Contract("_ -> this")
+    public <U> Validation<U> mapValid(@Nullable Function<@NotNull T, @Nullable U> mapper) {
+        return (Validation<U>) this;
+    }
+
+    @Override
+    @NotNull
+    @SuppressWarnings("unchecked")
+    @Contract("_ -> this")
+    public <U> Validation<U> flatMapValid(@Nullable Function<@NotNull T, @Nullable Validation<U>> mapper) {
+        return (Validation<U>) this;
+    }
+
+    @Override
+    @NotNull
+    @Contract("-> new")
+    public Result<T> toResult() {
+        return Err.of(new ValidationException(chain.toList()));
+    }
+
+    @Override
+    @Contract("-> false")
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof Invalid<?> other && getErrors().equals(other.getErrors());
+    }
+
+    @Override
+    public int hashCode() {
+        return getErrors().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Invalid" + getErrors();
+    }
+}
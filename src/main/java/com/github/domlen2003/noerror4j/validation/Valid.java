@@ -0,0 +1,95 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+@SuppressWarnings("unused")
+public final class Valid<T> extends Validation<T> {
+    private final T value;
+
+    private Valid(@NotNull T value) {
+        this.value = value;
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Validation<T> of(@Nullable T value) {
+        return value != null ? new Valid<>(value) : Invalid.of(new NullPointerException("Valid.of() value is null"));
+    }
+
+    /**
+     * Gets the validated value.
+     *
+     * @return the value
+     */
+    @NotNull
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> new")
+    public <U> Validation<U> mapValid(@Nullable Function<@NotNull T, @Nullable U> mapper) {
+        if (mapper == null) {
+            return Invalid.of(new NullPointerException("Mapper for Validation.mapValid(mapper) is null"));
+        }
+        try {
+            U result = mapper.apply(value);
+            return result == null ? Invalid.of(new NullPointerException("Mapper for Validation.mapValid(mapper) returned null")) : new Valid<>(result);
+        } catch (Throwable throwable) {
+            return Invalid.of(throwable);
+        }
+    }
+
+    @Override
+    @NotNull
+    @Contract("_ -> new")
+    public <U> Validation<U> flatMapValid(@Nullable Function<@NotNull T, @Nullable Validation<U>> mapper) {
+        if (mapper == null) {
+            return Invalid.of(new NullPointerException("Mapper for Validation.flatMapValid(mapper) is null"));
+        }
+        try {
+            Validation<U> result = mapper.apply(value);
+            return result == null ? Invalid.of(new NullPointerException("Mapper for Validation.flatMapValid(mapper) returned null")) : result;
+        } catch (Throwable throwable) {
+            return Invalid.of(throwable);
+        }
+    }
+
+    @Override
+    @NotNull
+    @Contract("-> new")
+    public Result<T> toResult() {
+        return Ok.of(value);
+    }
+
+    @Override
+    @Contract("-> true")
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof Valid<?> other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Valid[" + value + "]";
+    }
+}
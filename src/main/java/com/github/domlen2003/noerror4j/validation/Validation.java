@@ -0,0 +1,276 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A Validation type that can be used to return a value or all errors that prevented it
+ * <br><br>
+ * Unlike {@link Result#flatMapOk(Function)}, which stops at the first {@link Err}, independent Validations are
+ * combined applicatively: the combining function only runs if every input is {@link Valid}, otherwise the errors
+ * of <b>all</b> {@link Invalid} inputs are accumulated.
+ * <pre>{@code
+ * Validation<User> user = Validation.combine(
+ *     validateName(request.name()),
+ *     validateMail(request.mail()),
+ *     validateAge(request.age()),
+ *     User::new
+ * );
+ * Result<User> result = user.toResult(); // Err carries every field error
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ */
+@SuppressWarnings("unused")
+public sealed abstract class Validation<T> permits Invalid, Valid {
+
+    /**
+     * Creates a Validation from a Result
+     *
+     * @param result the result to convert
+     * @return a {@link Valid} if the result is an {@link Ok}, an {@link Invalid} with the error of the {@link Err} otherwise
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Validation<T> fromResult(@Nullable Result<T> result) {
+        if (result == null) {
+            return Invalid.of(new NullPointerException("Result for Validation.fromResult(result) is null"));
+        }
+        if (result instanceof Ok<T> ok) {
+            return Valid.of(ok.getValue());
+        }
+        return Invalid.of(((Err<T>) result).getError());
+    }
+
+    /**
+     * Combines two Validations
+     *
+     * @param first    the first validation
+     * @param second   the second validation
+     * @param combiner the function to combine the values
+     * @return a {@link Valid} of the combined value if all inputs are valid, an {@link Invalid} with all errors otherwise
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static <A, B, R> Validation<R> combine(@NotNull Validation<A> first,
+                                                  @NotNull Validation<B> second,
+                                                  @Nullable BiFunction<@NotNull A, @NotNull B, @Nullable R> combiner) {
+        if (first instanceof Valid<A> a && second instanceof Valid<B> b) {
+            if (combiner == null) {
+                return Invalid.of(new NullPointerException("Combiner for Validation.combine(...) is null"));
+            }
+            try {
+                return Valid.of(combiner.apply(a.getValue(), b.getValue()));
+            } catch (Throwable throwable) {
+                return Invalid.of(throwable);
+            }
+        }
+        return Invalid.ofChain(errors(null, first, second));
+    }
+
+    /**
+     * Combines three Validations
+     *
+     * @param first    the first validation
+     * @param second   the second validation
+     * @param third    the third validation
+     * @param combiner the function to combine the values
+     * @return a {@link Valid} of the combined value if all inputs are valid, an {@link Invalid} with all errors otherwise
+     */
+    @NotNull
+    @Contract("_, _, _, _ -> new")
+    public static <A, B, C, R> Validation<R> combine(@NotNull Validation<A> first,
+                                                     @NotNull Validation<B> second,
+                                                     @NotNull Validation<C> third,
+                                                     @Nullable Function3<@NotNull A, @NotNull B, @NotNull C, @Nullable R> combiner) {
+        if (first instanceof Valid<A> a && second instanceof Valid<B> b && third instanceof Valid<C> c) {
+            if (combiner == null) {
+                return Invalid.of(new NullPointerException("Combiner for Validation.combine(...) is null"));
+            }
+            try {
+                return Valid.of(combiner.apply(a.getValue(), b.getValue(), c.getValue()));
+            } catch (Throwable throwable) {
+                return Invalid.of(throwable);
+            }
+        }
+        return Invalid.ofChain(errors(errors(null, first, second), third));
+    }
+
+    /**
+     * Combines four Validations
+     *
+     * @param first    the first validation
+     * @param second   the second validation
+     * @param third    the third validation
+     * @param fourth   the fourth validation
+     * @param combiner the function to combine the values
+     * @return a {@link Valid} of the combined value if all inputs are valid, an {@link Invalid} with all errors otherwise
+     */
+    @NotNull
+    @Contract("_, _, _, _, _ -> new")
+    public static <A, B, C, D, R> Validation<R> combine(@NotNull Validation<A> first,
+                                                        @NotNull Validation<B> second,
+                                                        @NotNull Validation<C> third,
+                                                        @NotNull Validation<D> fourth,
+                                                        @Nullable Function4<@NotNull A, @NotNull B, @NotNull C, @NotNull D, @Nullable R> combiner) {
+        if (first instanceof Valid<A> a && second instanceof Valid<B> b
+                && third instanceof Valid<C> c && fourth instanceof Valid<D> d) {
+            if (combiner == null) {
+                return Invalid.of(new NullPointerException("Combiner for Validation.combine(...) is null"));
+            }
+            try {
+                return Valid.of(combiner.apply(a.getValue(), b.getValue(), c.getValue(), d.getValue()));
+            } catch (Throwable throwable) {
+                return Invalid.of(throwable);
+            }
+        }
+        return Invalid.ofChain(errors(errors(errors(null, first, second), third), fourth));
+    }
+
+    /**
+     * Combines five Validations
+     *
+     * @param first    the first validation
+     * @param second   the second validation
+     * @param third    the third validation
+     * @param fourth   the fourth validation
+     * @param fifth    the fifth validation
+     * @param combiner the function to combine the values
+     * @return a {@link Valid} of the combined value if all inputs are valid, an {@link Invalid} with all errors otherwise
+     */
+    @NotNull
+    @Contract("_, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E, R> Validation<R> combine(@NotNull Validation<A> first,
+                                                           @NotNull Validation<B> second,
+                                                           @NotNull Validation<C> third,
+                                                           @NotNull Validation<D> fourth,
+                                                           @NotNull Validation<E> fifth,
+                                                           @Nullable Function5<@NotNull A, @NotNull B, @NotNull C, @NotNull D, @NotNull E, @Nullable R> combiner) {
+        if (first instanceof Valid<A> a && second instanceof Valid<B> b && third instanceof Valid<C> c
+                && fourth instanceof Valid<D> d && fifth instanceof Valid<E> e) {
+            if (combiner == null) {
+                return Invalid.of(new NullPointerException("Combiner for Validation.combine(...) is null"));
+            }
+            try {
+                return Valid.of(combiner.apply(a.getValue(), b.getValue(), c.getValue(), d.getValue(), e.getValue()));
+            } catch (Throwable throwable) {
+                return Invalid.of(throwable);
+            }
+        }
+        return Invalid.ofChain(errors(errors(errors(errors(null, first, second), third), fourth), fifth));
+    }
+
+    /**
+     * Combines any number of Validations of the same type, e.g. to validate all elements of a collection
+     *
+     * @param validations the validations to combine
+     * @return a {@link Valid} of all values in order if all inputs are valid, an {@link Invalid} with all errors otherwise
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <T> Validation<List<T>> sequence(@Nullable Iterable<? extends @Nullable Validation<T>> validations) {
+        if (validations == null) {
+            return Invalid.of(new NullPointerException("Validations for Validation.sequence(validations) is null"));
+        }
+        // a single pass, the iterable may only be traversable once
+        ErrorChain chain = null;
+        List<T> values = new ArrayList<>();
+        for (Validation<T> validation : validations) {
+            if (validation instanceof Valid<T> valid) {
+                if (chain == null) {
+                    values.add(valid.getValue());
+                }
+            } else {
+                chain = errors(chain, validation);
+            }
+        }
+        if (chain != null) {
+            return Invalid.ofChain(chain);
+        }
+        return Valid.of(Collections.unmodifiableList(values));
+    }
+
+    private static ErrorChain errors(ErrorChain chain, Validation<?> first, Validation<?> second) {
+        return errors(errors(chain, first), second);
+    }
+
+    private static ErrorChain errors(ErrorChain chain, Validation<?> validation) {
+        if (validation instanceof Valid<?>) {
+            return chain;
+        }
+        ErrorChain errors = validation instanceof Invalid<?> invalid ?
+                invalid.getChain() :
+                ErrorChain.of(new NullPointerException("Validation to combine is null"));
+        return chain == null ? errors : ErrorChain.concat(chain, errors);
+    }
+
+    /**
+     * If the validation is {@link Valid} maps its value to a new Value or returns the {@link Invalid}
+     *
+     * @param mapper the function to map the value
+     * @return the new Validation
+     */
+    @NotNull
+    public abstract <U> Validation<U> mapValid(@Nullable Function<@NotNull T, @Nullable U> mapper);
+
+    /**
+     * If the validation is {@link Valid} maps its value to a new Validation or returns the {@link Invalid}
+     * <br><br>
+     * This is the dependent (fail-fast) composition, use {@link #combine(Validation, Validation, BiFunction)} for independent checks
+     *
+     * @param mapper the function to map the value
+     * @return the new Validation
+     */
+    @NotNull
+    public abstract <U> Validation<U> flatMapValid(@Nullable Function<@NotNull T, @Nullable Validation<U>> mapper);
+
+    /**
+     * Converts the Validation to a Result
+     *
+     * @return an {@link Ok} of the value or an {@link Err} of a {@link ValidationException} carrying all errors
+     */
+    @NotNull
+    public abstract Result<T> toResult();
+
+    /**
+     * Whether the Validation has a value
+     *
+     * @return true if the Validation is {@link Valid}, false otherwise
+     */
+    @Contract("-> _")
+    public abstract boolean isValid();
+
+    /**
+     * A function of three arguments used by {@link #combine(Validation, Validation, Validation, Function3)}
+     */
+    @FunctionalInterface
+    public interface Function3<A, B, C, R> {
+        R apply(A a, B b, C c);
+    }
+
+    /**
+     * A function of four arguments used by {@link #combine(Validation, Validation, Validation, Validation, Function4)}
+     */
+    @FunctionalInterface
+    public interface Function4<A, B, C, D, R> {
+        R apply(A a, B b, C c, D d);
+    }
+
+    /**
+     * A function of five arguments used by {@link #combine(Validation, Validation, Validation, Validation, Validation, Function5)}
+     */
+    @FunctionalInterface
+    public interface Function5<A, B, C, D, E, R> {
+        R apply(A a, B b, C c, D d, E e);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * The error of an {@link com.github.domlen2003.noerror4j.result.Err} converted from an {@link Invalid}.
+ * <br><br>
+ * Carries every accumulated error, both as {@link #getErrors()} and as suppressed exceptions.
+ * It does not capture a stack trace of its own, the accumulated errors already carry theirs.
+ */
+@SuppressWarnings("unused")
+public final class ValidationException extends RuntimeException {
+    private final List<Throwable> errors;
+
+    ValidationException(@NotNull List<Throwable> errors) {
+        super("Validation failed with " + errors.size() + (errors.size() == 1 ? " error" : " errors"), null, true, false);
+        this.errors = errors;
+        for (Throwable error : errors) {
+            addSuppressed(error);
+        }
+    }
+
+    /**
+     * Gets all accumulated errors in the order they were combined.
+     *
+     * @return the errors
+     */
+    @NotNull
+    @Unmodifiable
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.domlen2003.noerror4j.adapter;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Option;
+import com.github.domlen2003.noerror4j.option.Some;
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ResultAdapterProcessorTest {
+    private static final String STORE = """
+            package test;
+
+            import com.github.domlen2003.noerror4j.adapter.AsOption;
+            import com.github.domlen2003.noerror4j.adapter.ResultAdapter;
+            import java.io.IOException;
+            import java.util.List;
+
+            @ResultAdapter
+            public interface Store<K> extends Base {
+                String load(K key) throws IOException;
+
+                int count();
+
+                void clear() throws Exception;
+
+                @AsOption
+                String find(K key);
+
+                <T extends Comparable<T>> List<T> sorted(List<T> values, String... value);
+
+                default String describe() {
+                    return "Store";
+                }
+
+                static Store<String> empty() {
+                    return null;
+                }
+
+                String toString();
+            }
+            """;
+    private static final String BASE = """
+            package test;
+
+            public interface Base {
+                long size();
+            }
+            """;
+    private static final String MAP_STORE = """
+            package test;
+
+            import java.io.IOException;
+            import java.util.List;
+
+            public class MapStore implements Store<String> {
+                public String load(String key) throws IOException {
+                    if (key.equals("missing")) {
+                        throw new IOException("Not found");
+                    }
+                    return key.equals("null") ? null : key.toUpperCase();
+                }
+
+                public int count() {
+                    return 3;
+                }
+
+                public void clear() throws Exception {
+                    throw new Exception("Read only");
+                }
+
+                public String find(String key) {
+                    return key.isEmpty() ? null : key;
+                }
+
+                public <T extends Comparable<T>> List<T> sorted(List<T> values, String... value) {
+                    return values.stream().sorted().toList();
+                }
+
+                public long size() {
+                    return 7;
+                }
+            }
+            """;
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("adapter");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void generatesAdapter() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(STORE, BASE, MAP_STORE);
+        assertTrue(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().stream().noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR));
+        String source = Files.readString(directory.resolve("test/StoreResults.java"));
+        assertFalse(source.contains("toString"));
+        assertFalse(source.contains("empty"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> storeType = loader.loadClass("test.Store");
+            Class<?> adapterType = loader.loadClass("test.StoreResults");
+            Object store = loader.loadClass("test.MapStore").getConstructor().newInstance();
+            Object adapter = adapterType.getConstructor(storeType).newInstance(store);
+            Method load = adapterType.getMethod("load", Object.class);
+            assertEquals(Ok.of("KEY"), load.invoke(adapter, "key"));
+            assertTrue(load.invoke(adapter, "missing") instanceof Err<?> err && err.getError() instanceof IOException);
+            assertTrue(load.invoke(adapter, "null") instanceof Err<?> err && err.getError() instanceof NullPointerException);
+            //Primitives are boxed, void becomes Boolean
+            assertEquals(Ok.of(3), adapterType.getMethod("count").invoke(adapter));
+            assertTrue(adapterType.getMethod("clear").invoke(adapter) instanceof Err<?>);
+            assertEquals(Ok.of(7L), adapterType.getMethod("size").invoke(adapter));
+            assertEquals(Ok.of("Store"), adapterType.getMethod("describe").invoke(adapter));
+            Method find = adapterType.getMethod("find", Object.class);
+            assertEquals(Option.class, find.getReturnType());
+            assertEquals(Some.of("key"), find.invoke(adapter, "key"));
+            assertEquals(None.instance(), find.invoke(adapter, ""));
+            Result<List<Integer>> sorted = (Result<List<Integer>>) adapterType.getMethod("sorted", List.class, String[].class)
+                    .invoke(adapter, List.of(3, 1, 2), new String[0]);
+            assertEquals(Ok.of(List.of(1, 2, 3)), sorted);
+        }
+    }
+
+    @Test
+    public void rejectsClasses() {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package test;
+
+                @com.github.domlen2003.noerror4j.adapter.ResultAdapter
+                public class NotAnInterface {
+                }
+                """);
+        assertTrue(diagnostics.getDiagnostics().stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                && diagnostic.getMessage(null).contains("only be applied to interfaces")));
+    }
+
+    @Test
+    public void mergesInheritedDuplicates() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package test;
+
+                public interface Named {
+                    CharSequence name();
+                }
+                """, """
+                package test;
+
+                public interface Labeled {
+                    String name();
+                }
+                """, """
+                package test;
+
+                @com.github.domlen2003.noerror4j.adapter.ResultAdapter
+                public interface Both extends Named, Labeled {
+                }
+                """);
+        assertTrue(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().stream().noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR));
+        String source = Files.readString(directory.resolve("test/BothResults.java"));
+        //One adapter method with the most specific return type
+        assertEquals(source.indexOf(" name("), source.lastIndexOf(" name("));
+        assertTrue(source.contains("Result<java.lang.String> name()"));
+    }
+
+    @Test
+    public void rejectsUnprintableTypes() {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package test;
+
+                @com.github.domlen2003.noerror4j.adapter.ResultAdapter
+                public interface Broken {
+                    DoesNotExist load();
+                }
+                """);
+        assertTrue(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                && diagnostic.getMessage(null).contains("Cannot generate the adapter of test.Broken")));
+        assertFalse(Files.exists(directory.resolve("test/BrokenResults.java")));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Path sourceDirectory = Files.createDirectories(directory.resolve("src/test"));
+            List<Path> files = new java.util.ArrayList<>();
+            for (String source : sources) {
+                String name = source.replaceAll("(?s).*public (?:interface|class) (\\w+).*", "$1");
+                files.add(Files.writeString(sourceDirectory.resolve(name + ".java"), source));
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", directory.toString(), "-s", directory.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new ResultAdapterProcessor()));
+            task.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return diagnostics;
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.domlen2003.noerror4j.collection;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Some;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IntObjectMapTest {
+
+    @Test
+    public void putGetRemove() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1, "One"));
+        assertEquals("One", map.put(1, "Uno"));
+        assertNull(map.put(-7, "Minus seven"));
+        assertEquals(2, map.size());
+        assertEquals(Some.of("Uno"), map.getOption(1));
+        //Misses return the shared None
+        assertSame(None.instance(), map.getOption(2));
+        assertEquals("Other", map.getOrElse(2, "Other"));
+        assertTrue(map.containsKey(-7));
+        assertEquals("Minus seven", map.remove(-7));
+        assertNull(map.remove(-7));
+        //Putting null removes the key
+        map.put(1, null);
+        assertTrue(map.isEmpty());
+        assertEquals("Two", map.computeIfAbsent(2, key -> "Two"));
+        assertEquals("Two", map.computeIfAbsent(2, key -> "Zwei"));
+        assertEquals("{2=Two}", map.toString());
+        map.clear();
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void matchesHashMap() {
+        IntObjectMap<Integer> map = new IntObjectMap<>(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            //Few distinct keys with colliding low bits, so removals shift probe sequences
+            int key = random.nextInt(512) << 10;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 512 << 10; key += 1 << 10) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        int[] count = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.domlen2003.noerror4j.collection;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Some;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void putGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1L, "One"));
+        assertEquals("One", map.put(1L, "Uno"));
+        assertNull(map.put(-7L, "Minus seven"));
+        assertEquals(2, map.size());
+        assertEquals(Some.of("Uno"), map.getOption(1));
+        //Misses return the shared None
+        assertSame(None.instance(), map.getOption(2));
+        assertEquals("Other", map.getOrElse(2, "Other"));
+        assertTrue(map.containsKey(-7));
+        assertEquals("Minus seven", map.remove(-7L));
+        assertNull(map.remove(-7L));
+        //Putting null removes the key
+        map.put(1L, null);
+        assertTrue(map.isEmpty());
+        assertEquals("Two", map.computeIfAbsent(2, key -> "Two"));
+        assertEquals("Two", map.computeIfAbsent(2, key -> "Zwei"));
+        assertEquals("{2=Two}", map.toString());
+        map.clear();
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void matchesHashMap() {
+        LongObjectMap<Integer> map = new LongObjectMap<>(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            //Few distinct keys with colliding low bits, so removals shift probe sequences
+            long key = (long) random.nextInt(512) << 40;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 512L << 40; key += 1L << 40) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        int[] count = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class BulkheadTest {
+
+    private static CompletableFuture<Result<String>> occupy(Bulkhead bulkhead, CountDownLatch started, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> bulkhead.call(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return "done";
+        }));
+    }
+
+    @Test
+    public void call() {
+        Bulkhead bulkhead = Bulkhead.of("test", 1);
+        assertEquals(Ok.of("Some String"), bulkhead.call(() -> "Some String"));
+        assertTrue(bulkhead.call(() -> null) instanceof Err<Object>);
+        assertTrue(bulkhead.call(null) instanceof Err<Object>);
+        assertTrue(bulkhead.flatCall(() -> Err.of("Error")) instanceof Err<Object>);
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    public void rejectsWhenFull() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of("test", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Result<String>> running = occupy(bulkhead, started, release);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, bulkhead.getSaturation(), 0.0);
+        Result<String> first = bulkhead.call(() -> "Some String");
+        Result<String> second = bulkhead.call(() -> "Some String");
+        assertTrue(first instanceof Err<String> err && err.getError() instanceof BulkheadFullException);
+        //Rejections are preallocated
+        assertSame(first, second);
+        assertEquals(2, bulkhead.getRejectedCount());
+        release.countDown();
+        assertEquals(Ok.of("done"), running.get(5, TimeUnit.SECONDS));
+        assertEquals(Ok.of("Some String"), bulkhead.call(() -> "Some String"));
+    }
+
+    @Test
+    public void waitsForPermit() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of("test", 1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Result<String>> running = occupy(bulkhead, started, release);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Result<String>> waiting = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "waited"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getWaiting() == 0) {
+            assertTrue("No call started waiting", System.nanoTime() < deadline);
+            Thread.yield();
+        }
+        //Queue is full
+        assertTrue(bulkhead.call(() -> "Some String") instanceof Err<String>);
+        release.countDown();
+        assertEquals(Ok.of("done"), running.get(5, TimeUnit.SECONDS));
+        assertEquals(Ok.of("waited"), waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void waitTimesOut() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of("test", 1, 1, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Result<String>> running = occupy(bulkhead, started, release);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(bulkhead.call(() -> "Some String") instanceof Err<String>);
+        assertEquals(0, bulkhead.getWaiting());
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void waitersAreNotStranded() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of("test", 1, 8, Duration.ofSeconds(30));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> callers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                callers.add(executor.submit(() -> {
+                    long slowest = 0;
+                    for (int i = 0; i < 500; i++) {
+                        int value = i;
+                        long start = System.nanoTime();
+                        assertEquals(Ok.of(value), bulkhead.call(() -> value));
+                        slowest = Math.max(slowest, System.nanoTime() - start);
+                    }
+                    return slowest;
+                }));
+            }
+            for (Future<Long> caller : callers) {
+                //A lost wakeup would leave a waiter parked until its 30s deadline
+                assertTrue(caller.get(60, TimeUnit.SECONDS) < TimeUnit.SECONDS.toNanos(10));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class PipelineTest {
+
+    @Test
+    public void processesAllInputs() throws InterruptedException {
+        AtomicLong sum = new AtomicLong();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger lastStageCalls = new AtomicInteger();
+        Pipeline<Integer, String> pipeline = Pipeline.<Integer>stages()
+                .then("double", value -> Ok.of(value * 2))
+                .then("filter", value -> value % 10 == 0 ? Err.of("Multiple of ten") : Ok.of(value))
+                .then("format", value -> {
+                    lastStageCalls.incrementAndGet();
+                    return Ok.of(Integer.toString(value));
+                })
+                .start(result -> {
+                    if (result instanceof Ok<String> ok) {
+                        sum.addAndGet(Long.parseLong(ok.getValue()));
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }, 64, 16);
+        long expected = 0;
+        for (int i = 1; i <= 100_000; i++) {
+            assertTrue(pipeline.submit(i));
+            if ((i * 2) % 10 != 0) {
+                expected += i * 2L;
+            }
+        }
+        pipeline.close();
+        assertFalse(pipeline.submit(0));
+        assertTrue(pipeline.awaitTermination(Duration.ofSeconds(30)));
+        assertEquals(expected, sum.get());
+        assertEquals(20_000, errors.get());
+        //Errs skipped the last stage
+        assertEquals(80_000, lastStageCalls.get());
+    }
+
+    @Test
+    public void closeRacesSubmit() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            AtomicInteger received = new AtomicInteger();
+            Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>stages()
+                    .then("first", Ok::of)
+                    .start(result -> received.incrementAndGet(), 4, 1);
+            AtomicInteger accepted = new AtomicInteger();
+            Thread submitter = new Thread(() -> {
+                for (int i = 0; pipeline.submit(i); i++) {
+                    accepted.incrementAndGet();
+                }
+            });
+            submitter.start();
+            Thread.yield();
+            //Closed from another thread than the submitting one
+            pipeline.close();
+            submitter.join();
+            assertTrue(pipeline.awaitTermination(Duration.ofSeconds(10)));
+            //Every accepted input reaches the sink
+            assertEquals(accepted.get(), received.get());
+        }
+    }
+
+    @Test
+    public void stageErrors() throws InterruptedException {
+        ConcurrentLinkedQueue<Result<Integer>> results = new ConcurrentLinkedQueue<>();
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>stages()
+                .<Integer>then("throwing", value -> {
+                    throw new IllegalStateException("Error");
+                })
+                .then("never", Ok::of)
+                .start(results::add, 4, 1);
+        pipeline.submit(1);
+        pipeline.close();
+        assertTrue(pipeline.awaitTermination(Duration.ofSeconds(10)));
+        assertEquals(1, results.size());
+        assertTrue(results.peek() instanceof Err<Integer> err && err.getError() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void queueDepths() throws InterruptedException {
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>stages()
+                .then("first", Ok::of)
+                .then("second", Ok::of)
+                .start(result -> {
+                }, 4, 4);
+        Map<String, Integer> depths = pipeline.getQueueDepths();
+        assertEquals(List.of("first", "second", "sink"), List.copyOf(depths.keySet()));
+        pipeline.close();
+        assertTrue(pipeline.awaitTermination(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void threadNames() throws InterruptedException {
+        ConcurrentSkipListSet<String> names = new ConcurrentSkipListSet<>();
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>stages()
+                .then("parse", value -> {
+                    names.add(Thread.currentThread().getName());
+                    return Ok.of(value);
+                })
+                .then("store", value -> {
+                    names.add(Thread.currentThread().getName());
+                    return Ok.of(value);
+                })
+                .start(result -> names.add(Thread.currentThread().getName()), 4, 1);
+        pipeline.submit(1);
+        pipeline.close();
+        assertTrue(pipeline.awaitTermination(Duration.ofSeconds(10)));
+        assertEquals(Set.of("pipeline-parse", "pipeline-store", "pipeline-sink"), names);
+        //A custom factory keeps its names
+        names.clear();
+        Pipeline<Integer, Integer> custom = Pipeline.<Integer>stages()
+                .then("parse", Ok::of)
+                .start(result -> names.add(Thread.currentThread().getName()), 4, 1, runnable -> new Thread(runnable, "worker"));
+        custom.submit(1);
+        custom.close();
+        assertTrue(custom.awaitTermination(Duration.ofSeconds(10)));
+        assertEquals(Set.of("worker"), names);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class RacesTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> Supplier<Result<T>> blocking(CountDownLatch interrupted) {
+        return () -> {
+            try {
+                new CountDownLatch(1).await();
+                return Err.of("Unreachable");
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return Err.of(e);
+            }
+        };
+    }
+
+    @Test
+    public void firstOkWinsAndCancelsOthers() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Result<String> result = Races.<String>firstOk(executor, List.of(
+                blocking(interrupted),
+                () -> Ok.of("fast")
+        )).get(5, TimeUnit.SECONDS);
+        assertEquals(Ok.of("fast"), result);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void allFailed() throws Exception {
+        Result<String> result = Races.<String>firstOk(executor, List.of(
+                () -> Err.of("first"),
+                () -> {
+                    throw new IllegalStateException("second");
+                },
+                () -> null
+        )).get(5, TimeUnit.SECONDS);
+        assertTrue(result instanceof Err<String> err
+                && err.getError() instanceof RaceFailedException
+                && err.getError().getSuppressed().length == 3);
+        //No attempts
+        assertTrue(Races.<String>firstOk(executor, List.of()).get(5, TimeUnit.SECONDS) instanceof Err<String>);
+    }
+
+    @Test
+    public void hedgedStartsBackupAfterDelay() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<Result<String>> slow = blocking(interrupted);
+        Result<String> result = Races.hedged(executor, () -> calls.incrementAndGet() == 1 ? slow.get() : Ok.of("backup"), Duration.ofMillis(10))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(Ok.of("backup"), result);
+        assertEquals(2, calls.get());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void hedgedSkipsBackupWhenFast() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> result = Races.hedged(executor, () -> Ok.of("primary" + calls.incrementAndGet()), Duration.ofMillis(50))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(Ok.of("primary1"), result);
+        Thread.sleep(100);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void hedgedBackupAfterFailure() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> result = Races.hedged(executor, () -> calls.incrementAndGet() == 1 ? Err.of("Error") : Ok.of("backup"), Duration.ofHours(1))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(Ok.of("backup"), result);
+    }
+
+    @Test
+    public void directExecutorIsNotInterrupted() throws Exception {
+        Result<String> failed = Races.<String>firstOk(Runnable::run, List.of(() -> Err.of("a"), () -> Err.of("b"))).get();
+        assertTrue(failed instanceof Err<String> err && err.getError() instanceof RaceFailedException);
+        //The completing attempt runs on the calling thread and must not interrupt it
+        assertFalse(Thread.interrupted());
+        assertEquals(Ok.of("b"), Races.<String>firstOk(Runnable::run, List.of(() -> Err.of("a"), () -> Ok.of("b"))).get());
+        assertFalse(Thread.interrupted());
+        assertEquals(Ok.of("backup"), Races.<String>hedged(Runnable::run, () -> Ok.of("backup"), Duration.ZERO).get());
+        assertFalse(Thread.interrupted());
+    }
+}
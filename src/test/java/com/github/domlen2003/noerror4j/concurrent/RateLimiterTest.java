@@ -0,0 +1,72 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class RateLimiterTest {
+
+    @Test
+    public void burstAndRefill() {
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        RateLimiter limiter = new RateLimiter("test", 10, 3, now::get);
+        assertEquals(3, limiter.getAvailableTokens());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        //One token per 100ms
+        now.addAndGet(50_000_000L);
+        assertFalse(limiter.tryAcquire());
+        now.addAndGet(50_000_000L);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        //Refills up to the burst only
+        now.addAndGet(10_000_000_000L);
+        assertEquals(3, limiter.getAvailableTokens());
+    }
+
+    @Test
+    public void call() {
+        AtomicLong now = new AtomicLong();
+        RateLimiter limiter = new RateLimiter("test", 1, 1, now::get);
+        assertEquals(Ok.of("Some String"), limiter.call(() -> "Some String"));
+        Result<String> first = limiter.call(() -> "Some String");
+        Result<String> second = limiter.flatCall(() -> Ok.of("Some String"));
+        assertTrue(first instanceof Err<String> err && err.getError() instanceof RateLimitedException);
+        //Rejections are preallocated
+        assertSame(first, second);
+        assertEquals(2, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void waitForToken() {
+        RateLimiter limiter = RateLimiter.of("test", 10, 1);
+        assertTrue(limiter.tryAcquire());
+        //Next token in ~100ms
+        assertFalse(limiter.tryAcquire(Duration.ofNanos(1)));
+        assertEquals(Ok.of("Some String"), limiter.call(() -> "Some String", Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void interruptedWait() {
+        AtomicLong now = new AtomicLong();
+        RateLimiter limiter = new RateLimiter("test", 0.1, 1, now::get);
+        assertTrue(limiter.tryAcquire());
+        Thread.currentThread().interrupt();
+        //Next token in 10s, the interrupted wait returns at once instead of spinning
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(Duration.ofSeconds(20)));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertTrue(Thread.interrupted());
+        //The reserved token was given back
+        now.addAndGet(10_000_000_000L);
+        assertTrue(limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.domlen2003.noerror4j.concurrent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SpscRingBufferTest {
+
+    @Test
+    public void offerAndPoll() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        assertNull(buffer.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        assertEquals(Integer.valueOf(0), buffer.poll());
+        assertTrue(buffer.offer(4));
+        Integer[] target = new Integer[8];
+        assertEquals(4, buffer.drainTo(target, 8));
+        assertArrayEquals(new Integer[]{1, 2, 3, 4, null, null, null, null}, target);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void concurrentTransfer() throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(16);
+        int count = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!buffer.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int expected = 0; expected < count; ) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertEquals(expected++, value.intValue());
+            } else {
+                Thread.yield();
+            }
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.domlen2003.noerror4j.incremental;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class GraphTest {
+
+    @Test
+    public void recomputesChangedSubgraph() {
+        Graph graph = new Graph();
+        AtomicInteger taxRuns = new AtomicInteger();
+        AtomicInteger shippingRuns = new AtomicInteger();
+        Input<Integer> price = graph.input("price", 100);
+        Input<Integer> rate = graph.input("rate", 19);
+        Input<Integer> weight = graph.input("weight", 2);
+        Node<Integer> tax = graph.node("tax", price, rate, (p, r) -> {
+            taxRuns.incrementAndGet();
+            return Ok.of(p * r / 100);
+        });
+        Node<Integer> shipping = graph.node("shipping", weight, w -> {
+            shippingRuns.incrementAndGet();
+            return Ok.of(w * 5);
+        });
+        Node<Integer> total = graph.node("total", List.of(price, tax, shipping), values -> Ok.of(values.stream().mapToInt(value -> (Integer) value).sum()));
+        assertEquals(Ok.of(129), total.get());
+        assertEquals(2, total.getLevel());
+        assertEquals(6, graph.size());
+
+        rate.set(7);
+        assertTrue(graph.isStale());
+        assertEquals(2, graph.recompute());
+        assertFalse(graph.isStale());
+        assertEquals(Ok.of(117), total.get());
+        assertEquals(2, taxRuns.get());
+        //Untouched branches are not recomputed
+        assertEquals(1, shippingRuns.get());
+        //Nothing to do
+        assertEquals(0, graph.recompute());
+    }
+
+    @Test
+    public void stopsAtUnchangedValues() {
+        Graph graph = new Graph();
+        AtomicInteger runs = new AtomicInteger();
+        Input<Integer> value = graph.input("value", 3);
+        Node<Boolean> positive = graph.node("positive", value, v -> Ok.of(v > 0));
+        Node<String> label = graph.node("label", positive, p -> {
+            runs.incrementAndGet();
+            return Ok.of(p ? "positive" : "negative");
+        });
+        value.set(5);
+        //Setting an equal value changes nothing
+        value.set(Ok.of(5));
+        assertEquals(1, graph.recompute());
+        assertEquals(1, runs.get());
+        value.set(-1);
+        assertEquals(2, graph.recompute());
+        assertEquals(Ok.of("negative"), label.get());
+    }
+
+    @Test
+    public void propagatesErr() {
+        Graph graph = new Graph();
+        AtomicInteger runs = new AtomicInteger();
+        Input<Integer> divisor = graph.input("divisor", 2);
+        Node<Integer> quotient = graph.node("quotient", divisor, d -> Ok.of(10 / d));
+        Node<Integer> doubled = graph.node("doubled", quotient, q -> {
+            runs.incrementAndGet();
+            return Ok.of(q * 2);
+        });
+        divisor.set(0);
+        graph.recompute();
+        assertTrue(quotient.get() instanceof Err<Integer> err && err.getError() instanceof ArithmeticException);
+        //The Err is passed on without running the dependent
+        assertSame(((Err<Integer>) quotient.get()).getError(), ((Err<Integer>) doubled.get()).getError());
+        assertEquals(1, runs.get());
+        divisor.set((Integer) null);
+        graph.recompute();
+        assertTrue(doubled.get() instanceof Err<Integer> err && err.getError() instanceof NullPointerException);
+        divisor.set(5);
+        graph.recompute();
+        assertEquals(Ok.of(4), doubled.get());
+    }
+
+    @Test
+    public void parallelLevels() {
+        Graph graph = new Graph();
+        Input<Integer> input = graph.input("input", 1);
+        Node<?>[] squares = new Node<?>[16];
+        for (int i = 0; i < squares.length; i++) {
+            int offset = i;
+            squares[i] = graph.node("square" + i, input, v -> Ok.of((v + offset) * (v + offset)));
+        }
+        Node<Integer> sum = graph.node("sum", List.of(squares), values -> Ok.of(values.stream().mapToInt(value -> (Integer) value).sum()));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            input.set(2);
+            assertEquals(17, graph.recompute(executor));
+        } finally {
+            executor.shutdown();
+        }
+        int expected = 0;
+        for (int i = 0; i < squares.length; i++) {
+            expected += (2 + i) * (2 + i);
+        }
+        assertEquals(Ok.of(expected), sum.get());
+    }
+
+    @Test
+    public void foreignNodes() {
+        Input<Integer> foreign = new Graph().input("foreign", 1);
+        assertThrows(IllegalArgumentException.class, () -> new Graph().node("node", foreign, Ok::of));
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ErrorJournalTest {
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("errors", ".journal");
+        Files.delete(path);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void writeAndRead() {
+        try (ErrorJournal journal = open(256, 4)) {
+            journal.accept("Error dropped in Result.getOrElse(other)", new IllegalStateException("Some Error"));
+            journal.accept(null, null);
+            assertEquals(2, journal.getRecordCount());
+        }
+        List<ErrorJournal.Entry> entries = read();
+        assertEquals(2, entries.size());
+        ErrorJournal.Entry entry = entries.get(0);
+        assertEquals(1, entry.getSequence());
+        assertEquals(Thread.currentThread().getName(), entry.getThread());
+        assertEquals("Error dropped in Result.getOrElse(other)", entry.getMessage());
+        assertEquals(IllegalStateException.class.getName(), entry.getExceptionClass());
+        assertEquals("Some Error", entry.getExceptionMessage());
+        assertTrue(entry.getTrace().startsWith(ErrorJournalTest.class.getName()));
+        //Traces are truncated to the slot
+        assertTrue(entry.getTrace().length() < 256);
+        assertEquals("", entries.get(1).getExceptionClass());
+    }
+
+    @Test
+    public void rotatesAndReopens() {
+        try (ErrorJournal journal = open(128, 2)) {
+            for (int i = 1; i <= 3; i++) {
+                journal.accept("Error " + i, null);
+            }
+        }
+        try (ErrorJournal journal = open(128, 2)) {
+            journal.accept("Error 4", null);
+        }
+        List<ErrorJournal.Entry> entries = read();
+        assertEquals(2, entries.size());
+        assertEquals("Error 3", entries.get(0).getMessage());
+        assertEquals(4, entries.get(1).getSequence());
+        //Layout mismatch
+        assertTrue(ErrorJournal.open(path, 256, 2) instanceof Err<ErrorJournal> err && err.getError() instanceof IOException);
+    }
+
+    @Test
+    public void skipsTornRecords() throws IOException {
+        try (ErrorJournal journal = open(128, 2)) {
+            journal.accept("Error 1", null);
+            journal.accept("Error 2", null);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            //Corrupt the payload of the first slot
+            file.seek(16 + 16 + 10);
+            file.write('X');
+        }
+        List<ErrorJournal.Entry> entries = read();
+        assertEquals(1, entries.size());
+        assertEquals("Error 2", entries.get(0).getMessage());
+    }
+
+    @Test
+    public void rejectsOtherVersions() throws IOException {
+        try (ErrorJournal journal = open(128, 2)) {
+            journal.accept("Error 1", null);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            //The version follows the magic number
+            file.seek(4);
+            file.writeInt(2);
+        }
+        //Not appended to, as it could not be read back
+        assertTrue(ErrorJournal.open(path, 128, 2) instanceof Err<ErrorJournal> err && err.getError() instanceof IOException);
+        assertTrue(ErrorJournal.read(path) instanceof Err<List<ErrorJournal.Entry>>);
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertTrue(ErrorJournal.open(null, 128, 2) instanceof Err<ErrorJournal>);
+        assertTrue(ErrorJournal.open(path, 100, 2) instanceof Err<ErrorJournal>);
+        assertTrue(ErrorJournal.read(path) instanceof Err<List<ErrorJournal.Entry>>);
+    }
+
+    private ErrorJournal open(int slotSize, int slotCount) {
+        Result<ErrorJournal> result = ErrorJournal.open(path, slotSize, slotCount);
+        assertTrue(result.toString(), result instanceof Ok<ErrorJournal>);
+        return ((Ok<ErrorJournal>) result).getValue();
+    }
+
+    private List<ErrorJournal.Entry> read() {
+        Result<List<ErrorJournal.Entry>> result = ErrorJournal.read(path);
+        assertTrue(result.toString(), result instanceof Ok<List<ErrorJournal.Entry>>);
+        return ((Ok<List<ErrorJournal.Entry>>) result).getValue();
+    }
+}
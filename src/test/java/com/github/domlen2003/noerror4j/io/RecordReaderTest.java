@@ -0,0 +1,181 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class RecordReaderTest {
+    private static final RecordParser<Integer> INT_PARSER = RecordParser.decoding(StandardCharsets.UTF_8, chars -> Integer.parseInt(chars.toString()));
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("records", ".txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private RecordReader open(String content, int windowSize) throws IOException {
+        Files.writeString(file, content);
+        Result<RecordReader> reader = RecordReader.open(file, (byte) '\n', windowSize);
+        assertTrue(reader instanceof Ok<RecordReader>);
+        return ((Ok<RecordReader>) reader).getValue();
+    }
+
+    @Test
+    public void open() {
+        assertTrue(RecordReader.open(null) instanceof Err<RecordReader>);
+        assertTrue(RecordReader.open(file.resolveSibling("missing-" + System.nanoTime())) instanceof Err<RecordReader>);
+    }
+
+    @Test
+    public void stream() throws IOException {
+        try (RecordReader reader = open("1\n22\r\nbad\n333", 4)) {
+            List<Result<Integer>> results = reader.stream(INT_PARSER).collect(Collectors.toList());
+            assertEquals(4, results.size());
+            assertEquals(Ok.of(1), results.get(0));
+            assertEquals(Ok.of(22), results.get(1));
+            assertEquals(Ok.of(333), results.get(3));
+            //Bad line does not abort and knows its position
+            assertTrue(results.get(2) instanceof Err<Integer> err
+                    && err.getError() instanceof RecordException exception
+                    && exception.getLine() == 3
+                    && exception.getOffset() == 6
+                    && exception.getCause() instanceof NumberFormatException);
+        }
+    }
+
+    @Test
+    public void forEach() throws IOException {
+        try (RecordReader reader = open("1\n2\n3\n", 64)) {
+            List<Result<Integer>> results = new ArrayList<>();
+            reader.forEach(INT_PARSER, results::add);
+            assertEquals(List.of(Ok.of(1), Ok.of(2), Ok.of(3)), results);
+        }
+    }
+
+    @Test
+    public void nullParserResult() throws IOException {
+        try (RecordReader reader = open("a\n", 64)) {
+            List<Result<Object>> results = reader.stream(record -> null).collect(Collectors.toList());
+            assertTrue(results.get(0) instanceof Err<Object> err && err.getError() instanceof RecordException);
+        }
+    }
+
+    @Test
+    public void parallel() throws IOException {
+        StringBuilder content = new StringBuilder();
+        long expected = 0;
+        for (int i = 1; i <= 10_000; i++) {
+            if (i % 100 == 0) {
+                content.append("bad").append(i).append('\n');
+            } else {
+                content.append(i).append('\n');
+                expected += i;
+            }
+        }
+        try (RecordReader reader = open(content.toString(), 256)) {
+            List<Result<Integer>> results = reader.stream(INT_PARSER).parallel().collect(Collectors.toList());
+            assertEquals(10_000, results.size());
+            long sum = 0;
+            for (int i = 0; i < results.size(); i++) {
+                Result<Integer> result = results.get(i);
+                if (result instanceof Ok<Integer> ok) {
+                    sum += ok.getValue();
+                } else {
+                    //Line numbers stay correct across splits
+                    assertEquals(i + 1L, ((RecordException) ((Err<Integer>) result).getError()).getLine());
+                }
+            }
+            assertEquals(expected, sum);
+        }
+    }
+
+    @Test
+    public void linesAfterClose() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 5_000; i++) {
+            content.append(i == 4_321 ? "bad" : String.valueOf(i)).append('\n');
+        }
+        List<Result<Integer>> results;
+        try (RecordReader reader = open(content.toString(), 256)) {
+            results = reader.stream(INT_PARSER).parallel().collect(Collectors.toList());
+        }
+        //Lines of split parts are counted on demand, also after the reader is closed
+        RecordException exception = (RecordException) ((Err<Integer>) results.get(4_320)).getError();
+        assertEquals(4_321, exception.getLine());
+        assertTrue(exception.getMessage(), exception.getMessage().startsWith("Record at line 4321 "));
+    }
+
+    @Test
+    public void errorsDoNotPinWindows() throws IOException, ReflectiveOperationException {
+        List<Result<Integer>> results;
+        try (RecordReader reader = open("1\nbad\n3\n", 256)) {
+            results = reader.stream(INT_PARSER).collect(Collectors.toList());
+        }
+        RecordException exception = (RecordException) ((Err<Integer>) results.get(1)).getError();
+        Field supplier = RecordException.class.getDeclaredField("lineSupplier");
+        supplier.setAccessible(true);
+        //The line supplier keeps the reader, not the spliterator with its mapped window
+        for (Field captured : supplier.get(exception).getClass().getDeclaredFields()) {
+            assertFalse(captured.toString(), Spliterator.class.isAssignableFrom(captured.getType()));
+            assertFalse(captured.toString(), Buffer.class.isAssignableFrom(captured.getType()));
+        }
+        assertEquals(2, exception.getLine());
+    }
+
+    @Test
+    public void estimatesRecords() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            content.append("record").append('\n');
+        }
+        try (RecordReader reader = open(content.toString(), 4096)) {
+            long estimate = reader.stream(INT_PARSER).spliterator().estimateSize();
+            assertEquals(10_000, estimate);
+        }
+    }
+
+    @Test
+    public void forksParsers() throws IOException {
+        List<RecordParser<Integer>> forks = new ArrayList<>();
+        RecordParser<Integer> parser = new RecordParser<>() {
+            @Override
+            public Integer parse(java.nio.ByteBuffer record) {
+                return record.remaining();
+            }
+
+            @Override
+            public RecordParser<Integer> fork() {
+                synchronized (forks) {
+                    forks.add(this);
+                }
+                return this;
+            }
+        };
+        try (RecordReader reader = open("1\n2\n3\n4\n", 64)) {
+            reader.stream(parser).parallel().count();
+        }
+        assertFalse(forks.isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.domlen2003.noerror4j.io;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class ResultFilesTest {
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("files");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void rejectsMissingFiles() {
+        Result<ByteBuffer> result = ResultFiles.readAllBytes(directory.resolve("missing"));
+        assertTrue(result instanceof Err<ByteBuffer> err && err.getError() instanceof FileOperationException);
+        FileOperationException error = (FileOperationException) ((Err<ByteBuffer>) result).getError();
+        assertEquals(directory.resolve("missing"), error.getPath());
+        //No stack trace is captured
+        assertEquals(0, error.getStackTrace().length);
+        assertTrue(ResultFiles.readString(directory, StandardCharsets.UTF_8) instanceof Err<CharBuffer> err && err.getError() instanceof FileOperationException);
+        assertTrue(ResultFiles.write(directory, ByteBuffer.allocate(1)) instanceof Err<Long> err && err.getError() instanceof FileOperationException);
+        assertTrue(ResultFiles.write(directory.resolve("a/b"), ByteBuffer.allocate(1)) instanceof Err<Long> err && err.getError() instanceof FileOperationException);
+        assertTrue(ResultFiles.size(null) instanceof Err<Long> err && err.getError() instanceof NullPointerException);
+    }
+
+    @Test
+    public void roundTripsBytes() {
+        byte[] bytes = new byte[200_000];
+        new Random(1).nextBytes(bytes);
+        Path file = directory.resolve("bytes");
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        assertEquals(Ok.of(200_000L), ResultFiles.write(file, data));
+        //The buffer's position is not changed
+        assertEquals(0, data.position());
+        assertEquals(Ok.of(data), ResultFiles.readAllBytes(file));
+        ByteBuffer direct = ByteBuffer.allocateDirect(3).put(new byte[]{1, 2, 3}).flip();
+        assertEquals(Ok.of(3L), ResultFiles.write(file, direct, StandardOpenOption.APPEND));
+        assertEquals(Ok.of(200_003L), ResultFiles.size(file));
+    }
+
+    @Test
+    public void roundTripsStrings() {
+        Path file = directory.resolve("text");
+        String text = "gr\u00fc\u00dfe \u20ac \ud83d\ude00 ".repeat(20_000);
+        assertTrue(ResultFiles.writeString(file, text, StandardCharsets.UTF_8) instanceof Ok<Long>);
+        assertTrue(ResultFiles.readString(file, StandardCharsets.UTF_8) instanceof Ok<CharBuffer> ok && ok.getValue().toString().equals(text));
+        //Unmappable characters are reported with their index
+        assertTrue(ResultFiles.writeString(file, "ab\u20ac", StandardCharsets.US_ASCII) instanceof Err<Long> err
+                && err.getError() instanceof FileOperationException && err.getError().getMessage().contains("index 2"));
+    }
+
+    @Test
+    public void reportsMalformedInput() throws IOException {
+        Path file = directory.resolve("malformed");
+        Files.write(file, new byte[]{'o', 'k', (byte) 0xC3, 'x'});
+        assertTrue(ResultFiles.readString(file, StandardCharsets.UTF_8) instanceof Err<CharBuffer> err
+                && err.getError() instanceof FileOperationException && err.getError().getMessage().contains("malformed UTF-8 input of 1 bytes at offset 2"));
+        assertTrue(ResultFiles.readString(file, StandardCharsets.ISO_8859_1) instanceof Ok<CharBuffer> ok && ok.getValue().length() == 4);
+    }
+
+    @Test
+    public void readsChunks() throws IOException {
+        Path file = directory.resolve("chunks");
+        Files.write(file, new byte[150_000]);
+        AtomicLong total = new AtomicLong();
+        assertEquals(Ok.of(150_000L), ResultFiles.forEachChunk(file, chunk -> {
+            assertTrue(chunk.isReadOnly());
+            total.addAndGet(chunk.remaining());
+        }));
+        assertEquals(150_000L, total.get());
+        assertTrue(ResultFiles.forEachChunk(file, chunk -> {
+            throw new IllegalStateException();
+        }) instanceof Err<Long> err && err.getError() instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.domlen2003.noerror4j.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsAreContinuous() {
+        //Every index covers the values between its bounds and nothing else
+        for (int i = 0; i < 1888; i++) {
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.lowerBound(i)));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i)));
+            if (i > 0) {
+                assertEquals(LatencyHistogram.upperBound(i - 1) + 1, LatencyHistogram.lowerBound(i));
+            }
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000, snapshot.getMax());
+        assertWithin(5_000_000, snapshot.getValueAtPercentile(50));
+        assertWithin(9_900_000, snapshot.getValueAtPercentile(99));
+        assertWithin(9_990_000, snapshot.getValueAtPercentile(99.9));
+        assertEquals(10_000_000, snapshot.getValueAtPercentile(100));
+        assertWithin(5_000_500, Math.round(snapshot.getMean()));
+        assertEquals(snapshot.getValueAtPercentile(99), histogram.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void emptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        histogram.record(-5);
+        histogram.record(17);
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(50));
+        assertEquals(17, histogram.snapshot().getMax());
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(50));
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.snapshot().getCount());
+        assertEquals(9_999, histogram.snapshot().getMax());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        //Buckets are at most 1/32 of their value wide
+        assertTrue(expected + " ~ " + actual, Math.abs(expected - actual) <= expected / 32 + 1);
+    }
+}
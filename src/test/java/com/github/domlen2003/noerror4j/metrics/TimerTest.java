@@ -0,0 +1,59 @@
+package com.github.domlen2003.noerror4j.metrics;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TimerTest {
+
+    @After
+    public void tearDown() {
+        Timer.enable();
+    }
+
+    @Test
+    public void splitsByOutcome() {
+        Timer timer = Timer.of("timer.outcome");
+        assertEquals(Ok.of(1), timer.time(() -> 1));
+        assertTrue(timer.time(() -> {
+            throw new IllegalStateException();
+        }) instanceof Err<Object>);
+        assertTrue(timer.timeResult(() -> null) instanceof Err<Object> err && err.getError() instanceof NullPointerException);
+        assertEquals(1, timer.getOk().snapshot().getCount());
+        assertEquals(2, timer.getErr().snapshot().getCount());
+        //Timers are shared by name
+        assertSame(timer, Timer.of("timer.outcome"));
+        assertSame(timer, Timer.getTimers().get("timer.outcome"));
+        timer.reset();
+        assertEquals(0, timer.getErr().snapshot().getCount());
+    }
+
+    @Test
+    public void timesStages() {
+        Timer timer = Timer.of("timer.stage");
+        Result<Integer> result = Result.of(() -> "21").flatMapOk(timer.timed(value -> Ok.of(Integer.parseInt(value) * 2)));
+        assertEquals(Ok.of(42), result);
+        //An Err passed on is not timed
+        Result.<String>of(() -> null).flatMapOk(timer.timed(value -> Ok.of(value.length())));
+        assertTrue(Result.of(() -> "x").flatMapOk(timer.timed(value -> Ok.of(Integer.parseInt(value)))) instanceof Err<Integer>);
+        assertEquals(1, timer.getOk().snapshot().getCount());
+        assertEquals(1, timer.getErr().snapshot().getCount());
+    }
+
+    @Test
+    public void disabled() {
+        Timer timer = Timer.of("timer.disabled");
+        Timer.disable();
+        assertFalse(Timer.isEnabled());
+        assertEquals(Ok.of(1), timer.time(() -> 1));
+        timer.record(Ok.of(1), 100);
+        assertEquals(0, timer.getOk().snapshot().getCount());
+        Timer.enable();
+        timer.record(Ok.of(1), 100);
+        assertEquals(100, timer.getOk().getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class AtomicOptionTest {
+
+    @Test
+    public void getAndSet() {
+        AtomicOption<String> option = AtomicOption.empty();
+        assertEquals(None.instance(), option.get());
+        assertNull(option.getOrNull());
+        assertEquals("Other", option.getOrElse("Other"));
+        option.set("Some String");
+        assertTrue(option.isPresent());
+        assertEquals(Some.of("Some String"), option.get());
+        assertEquals("Some String", option.getAndSet("Other String"));
+        assertEquals(Some.of("Other String"), option.getAndClear());
+        assertFalse(option.isPresent());
+        assertEquals(None.instance(), option.getAndClear());
+    }
+
+    @Test
+    public void compareAndSet() {
+        String value = "Some String";
+        AtomicOption<String> option = AtomicOption.of(value);
+        assertFalse(option.compareAndSet(null, "Other String"));
+        assertTrue(option.compareAndSet(value, null));
+        assertTrue(option.compareAndSet(null, value));
+        assertSame(value, option.getOrNull());
+    }
+
+    @Test
+    public void updateSome() {
+        AtomicOption<Integer> option = AtomicOption.empty();
+        assertNull(option.updateSome(value -> value + 1));
+        assertFalse(option.isPresent());
+        option.set(1);
+        assertEquals(Integer.valueOf(2), option.updateSome(value -> value + 1));
+        assertNull(option.updateSome(value -> null));
+        assertFalse(option.isPresent());
+    }
+
+    @Test
+    public void computeIfNone() {
+        AtomicOption<String> option = AtomicOption.empty();
+        assertNull(option.computeIfNone(() -> null));
+        assertEquals("Some String", option.computeIfNone(() -> "Some String"));
+        assertEquals("Some String", option.computeIfNone(() -> "Other String"));
+    }
+
+    @Test
+    public void errorsAreSunk() {
+        AtomicBoolean errorSunk = new AtomicBoolean();
+        Option.setErrorSink((message, error) -> errorSunk.set(true));
+        AtomicOption<String> option = AtomicOption.of("Some String");
+        assertEquals("Some String", option.updateSome(value -> {
+            throw new IllegalStateException("Error");
+        }));
+        assertTrue(errorSunk.get());
+        assertEquals(Some.of("Some String"), option.get());
+    }
+
+    @Test
+    public void concurrentUpdates() throws InterruptedException {
+        AtomicOption<Integer> counter = AtomicOption.of(0);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.updateSome(value -> value + 1);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Integer.valueOf(40_000), counter.getOrNull());
+    }
+}
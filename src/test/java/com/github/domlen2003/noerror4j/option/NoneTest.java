@@ -6,6 +6,7 @@ import com.github.domlen2003.noerror4j.result.Result;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
@@ -125,4 +126,29 @@ public class NoneTest {
         Result<String> result = none.asResult();
         assertTrue(result instanceof Err<String>);
     }
+
+    @Test
+    public void fold() {
+        Option<String> none = None.instance();
+        assertEquals("None", none.fold(value -> value + "!", () -> "None"));
+        assertEquals(-1, none.foldToInt(String::length, -1));
+        assertEquals(-1L, none.foldToLong(String::length, -1L));
+    }
+
+    @Test
+    public void getOrElse() {
+        Option<String> none = None.instance();
+        assertEquals("Other", none.getOrElse("Other"));
+        assertEquals("Other", none.getOrElseGet(() -> "Other"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void orElseThrow() {
+        None.instance().orElseThrow();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void orElseThrowSupplied() {
+        None.instance().orElseThrow(IllegalStateException::new);
+    }
 }
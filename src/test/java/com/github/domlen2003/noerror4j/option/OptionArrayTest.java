@@ -0,0 +1,84 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class OptionArrayTest {
+    @Before
+    public void setUp() {
+        Option.setErrorSink((msg, err) -> {
+        });
+    }
+
+    @Test
+    public void access() {
+        OptionArray<String> array = OptionArray.of(List.of(Some.of("a"), None.instance(), Some.of("c")));
+        assertEquals(3, array.length());
+        assertEquals(2, array.count());
+        assertTrue(array.isPresent(0));
+        assertFalse(array.isPresent(1));
+        assertEquals(Some.of("a"), array.get(0));
+        assertSame(None.instance(), array.get(1));
+        assertNull(array.getOrNull(1));
+        assertEquals("b", array.getOrElse(1, "b"));
+        array.setOption(1, Some.of("b"));
+        assertEquals(3, array.count());
+        array.clear(0);
+        assertFalse(array.isPresent(0));
+        array.set(2, null);
+        assertFalse(array.isPresent(2));
+        array.setOption(1, None.instance());
+        assertEquals(0, array.count());
+        //Arrays of Options store the Option itself with set
+        OptionArray<Option<String>> options = new OptionArray<>(2);
+        options.set(0, None.instance());
+        assertEquals(Some.of(None.instance()), options.get(0));
+        options.setOption(1, Some.of(Some.of("a")));
+        assertEquals(Some.of("a"), options.getOrNull(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        new OptionArray<String>(3).isPresent(3);
+    }
+
+    @Test
+    public void mapSome() {
+        OptionArray<Integer> array = new OptionArray<>(200);
+        for (int i = 0; i < 200; i += 3) {
+            array.set(i, i);
+        }
+        OptionArray<Integer> mapped = array.mapSome(value -> value % 2 == 0 ? null : value * 2);
+        assertEquals(33, mapped.count());
+        assertEquals(Integer.valueOf(6), mapped.getOrNull(3));
+        assertFalse(mapped.isPresent(6));
+        //Error mapper
+        AtomicBoolean errorThrown = new AtomicBoolean(false);
+        Option.setErrorSink((msg, err) -> errorThrown.set(true));
+        OptionArray<Integer> failed = array.mapSome(value -> {
+            throw new RuntimeException("Error");
+        });
+        assertEquals(0, failed.count());
+        assertTrue(errorThrown.get());
+    }
+
+    @Test
+    public void filter() {
+        OptionArray<Integer> array = new OptionArray<>(130);
+        for (int i = 0; i < 130; i++) {
+            array.set(i, i);
+        }
+        OptionArray<Integer> filtered = array.filter(value -> value >= 64);
+        assertEquals(66, filtered.count());
+        List<Integer> values = new ArrayList<>();
+        filtered.forEachSome(values::add);
+        assertEquals(Integer.valueOf(64), values.get(0));
+        assertEquals(Integer.valueOf(129), values.get(65));
+    }
+}
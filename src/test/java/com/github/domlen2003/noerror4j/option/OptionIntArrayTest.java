@@ -0,0 +1,37 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class OptionIntArrayTest {
+
+    @Test
+    public void access() {
+        OptionIntArray array = new OptionIntArray(100);
+        array.set(0, 0);
+        array.set(99, -1);
+        assertEquals(2, array.count());
+        assertEquals(Some.of(0), array.get(0));
+        assertSame(None.instance(), array.get(1));
+        assertEquals(-1, array.getOrElse(99, 7));
+        assertEquals(7, array.getOrElse(1, 7));
+        array.clear(99);
+        assertFalse(array.isPresent(99));
+    }
+
+    @Test
+    public void bulk() {
+        OptionIntArray array = new OptionIntArray(1000);
+        for (int i = 0; i < 1000; i += 2) {
+            array.set(i, i);
+        }
+        OptionIntArray result = array.mapSome(value -> value + 1).filter(value -> value % 4 == 1);
+        assertEquals(250, result.count());
+        AtomicLong sum = new AtomicLong();
+        result.forEachSome(sum::addAndGet);
+        assertEquals(124_750L, sum.get());
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class OptionLongArrayTest {
+
+    @Test
+    public void access() {
+        OptionLongArray array = new OptionLongArray(65);
+        array.set(64, Long.MAX_VALUE);
+        assertEquals(1, array.count());
+        assertEquals(Some.of(Long.MAX_VALUE), array.get(64));
+        assertSame(None.instance(), array.get(63));
+        assertEquals(-1L, array.getOrElse(0, -1L));
+    }
+
+    @Test
+    public void bulk() {
+        OptionLongArray array = new OptionLongArray(10);
+        for (int i = 0; i < 10; i++) {
+            array.set(i, i);
+        }
+        OptionLongArray result = array.filter(value -> value > 4).mapSome(value -> value * 10);
+        assertEquals(5, result.count());
+        AtomicLong sum = new AtomicLong();
+        result.forEachSome(sum::addAndGet);
+        assertEquals(350L, sum.get());
+    }
+}
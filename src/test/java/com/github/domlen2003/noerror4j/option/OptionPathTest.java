@@ -0,0 +1,102 @@
+package com.github.domlen2003.noerror4j.option;
+
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class OptionPathTest {
+
+    public static final class Order {
+        private final Customer customer;
+
+        public Order(Customer customer) {
+            this.customer = customer;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+    }
+
+    public static final class Customer {
+        private final Address address;
+        private final boolean vip;
+
+        public Customer(Address address, boolean vip) {
+            this.address = address;
+            this.vip = vip;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+    }
+
+    public record Address(String city) {
+        public String getZip() {
+            throw new IllegalStateException("No zip");
+        }
+    }
+
+    @Test
+    public void propertyPath() {
+        OptionPath<Order, String> city = OptionPath.of(Order.class, String.class, "customer.address.city");
+        assertEquals(Some.of("Berlin"), city.get(new Order(new Customer(new Address("Berlin"), false))));
+        assertEquals(None.instance(), city.get(new Order(new Customer(null, false))));
+        assertEquals(None.instance(), city.get(new Order(null)));
+        assertEquals(None.instance(), city.get(null));
+        assertNull(city.getOrNull(new Order(new Customer(new Address(null), false))));
+        //Cached per path
+        assertSame(city, OptionPath.of(Order.class, String.class, "customer.address.city"));
+        assertEquals("OptionPath[Order.customer.address.city]", city.toString());
+        //Primitive getters are boxed
+        OptionPath<Order, Boolean> vip = OptionPath.of(Order.class, Boolean.class, "customer.vip");
+        assertEquals(Some.of(true), vip.get(new Order(new Customer(null, true))));
+    }
+
+    @Test
+    public void invalidPaths() {
+        assertThrows(IllegalArgumentException.class, () -> OptionPath.of(Order.class, String.class, "customer.name"));
+        assertThrows(IllegalArgumentException.class, () -> OptionPath.of(Order.class, Integer.class, "customer.address.city"));
+        assertThrows(IllegalArgumentException.class, () -> OptionPath.of(Order.class, Object.class, "customer.vip.value"));
+        assertThrows(IllegalArgumentException.class, () -> OptionPath.of(Order.class, Object.class, "customer..address"));
+    }
+
+    @Test
+    public void functionPath() {
+        OptionPath<Order, String> city = OptionPath.of(Order::getCustomer)
+                .then(Customer::getAddress)
+                .then(Address::city);
+        assertEquals(Some.of("Hamburg"), city.get(new Order(new Customer(new Address("Hamburg"), false))));
+        assertEquals(None.instance(), city.get(new Order(new Customer(null, false))));
+        assertEquals("OptionPath[3 steps]", city.toString());
+    }
+
+    @Test
+    public void throwingGetter() {
+        Throwable[] sunk = new Throwable[1];
+        Option.setErrorSink((message, error) -> sunk[0] = error);
+        OptionPath<Order, String> zip = OptionPath.of(Order.class, String.class, "customer.address.zip");
+        assertEquals(None.instance(), zip.get(new Order(new Customer(new Address("Berlin"), false))));
+        assertTrue(sunk[0] instanceof IllegalStateException);
+    }
+
+    @Test
+    public void compilesToHiddenClass() throws ReflectiveOperationException {
+        MethodHandle getter = MethodHandles.publicLookup().findVirtual(Address.class, "city", MethodType.methodType(String.class));
+        Function<Object, Object> city = PathAccessors.compile(getter.asType(MethodType.methodType(Object.class, Object.class)));
+        //Every accessor gets a class of its own, with the handle as a constant
+        assertTrue(city.getClass().isHidden());
+        assertEquals("Hamburg", city.apply(new Address("Hamburg")));
+        assertNotSame(city.getClass(), PathAccessors.compile(MethodHandles.identity(Object.class)).getClass());
+    }
+}
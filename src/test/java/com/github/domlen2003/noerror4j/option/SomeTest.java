@@ -125,4 +125,21 @@ public class SomeTest {
         Result<String> result = some.asResult();
         assertTrue(result instanceof Ok<String>);
     }
+
+    @Test
+    public void fold() {
+        Option<String> some = Some.of("Some String");
+        assertEquals("Some String!", some.fold(value -> value + "!", () -> "None"));
+        assertEquals(11, some.foldToInt(String::length, -1));
+        assertEquals(11L, some.foldToLong(String::length, -1L));
+    }
+
+    @Test
+    public void getOrElse() {
+        Option<String> some = Some.of("Some String");
+        assertEquals("Some String", some.getOrElse("Other"));
+        assertEquals("Some String", some.getOrElseGet(() -> "Other"));
+        assertEquals("Some String", some.orElseThrow());
+        assertEquals("Some String", some.orElseThrow(IllegalStateException::new));
+    }
 }
@@ -0,0 +1,110 @@
+package com.github.domlen2003.noerror4j.parse;
+
+import com.github.domlen2003.noerror4j.option.None;
+import com.github.domlen2003.noerror4j.option.Some;
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class ParsersTest {
+
+    private enum Color {RED, GREEN}
+
+    @Test
+    public void parseInt() {
+        assertEquals(Ok.of(42), Parsers.parseInt("42"));
+        assertEquals(Ok.of(-2147483648), Parsers.parseInt("-2147483648"));
+        assertEquals(Ok.of(2147483647), Parsers.parseInt("+2147483647"));
+        assertError("Cannot parse '2147483648' as int: out of range [-2147483648, 2147483647]", Parsers.parseInt("2147483648"));
+        assertError("Cannot parse '12a' as int: unexpected character at index 2", Parsers.parseInt("12a"));
+        assertError("Cannot parse '-' as int: no digits at index 1", Parsers.parseInt("-"));
+        assertError("Cannot parse '' as int: empty input", Parsers.parseInt(""));
+        assertError("Cannot parse 'null' as int: input is null", Parsers.parseInt(null));
+        //Slices
+        assertEquals(Ok.of(123), Parsers.parseInt("id=123;", 3, 6));
+        assertTrue(Parsers.parseInt("123", 2, 5) instanceof Err<Integer>);
+        assertEquals(Some.of(7), Parsers.parseIntOption("7"));
+        assertEquals(None.instance(), Parsers.parseIntOption(" 7"));
+        assertEquals(7, Parsers.parseIntOrElse(new StringBuilder("7"), -1));
+        assertEquals(-1, Parsers.parseIntOrElse("7.0", -1));
+    }
+
+    @Test
+    public void parseLong() {
+        assertEquals(Ok.of(Long.MIN_VALUE), Parsers.parseLong("-9223372036854775808"));
+        assertEquals(Ok.of(Long.MAX_VALUE), Parsers.parseLong("9223372036854775807"));
+        assertTrue(Parsers.parseLong("9223372036854775808") instanceof Err<Long>);
+        assertEquals(Some.of(Long.MIN_VALUE), Parsers.parseLongOption("-9223372036854775808"));
+        assertEquals(Long.MIN_VALUE, Parsers.parseLongOrElse("-9223372036854775808", 0));
+        assertEquals(0, Parsers.parseLongOrElse("-9223372036854775809", 0));
+        //Leading zeros are accepted like Long.parseLong
+        assertEquals(Ok.of(Long.MIN_VALUE), Parsers.parseLong("-09223372036854775808"));
+        assertEquals(Some.of(Long.MIN_VALUE), Parsers.parseLongOption("x-0009223372036854775808", 1, 24));
+        assertEquals(0, Parsers.parseLongOrElse("-00", 0));
+        assertTrue(Parsers.parseLong("-009223372036854775809") instanceof Err<Long>);
+    }
+
+    @Test
+    public void parseDouble() {
+        String[] inputs = {"0", "-0", "1.5", ".5", "5.", "3.141592653589793", "1e10", "1.25E-3", "-2.5e+2", "123456789012345678",
+                "1e-400", "1e400", "0.1", "4.9e-324", "NaN", "Infinity", "-Infinity"};
+        for (String input : inputs) {
+            assertEquals(input, Ok.of(Double.parseDouble(input)), Parsers.parseDouble(input));
+        }
+        String[] invalid = {"", ".", "e5", "1e", "1.2.3", "1d", " 1", "+NaN", "Inf", "0x1p3"};
+        for (String input : invalid) {
+            assertTrue(input, Parsers.parseDouble(input) instanceof Err<Double>);
+        }
+        assertError("Cannot parse '1.2.3' as double: unexpected character at index 3", Parsers.parseDouble("1.2.3"));
+        assertEquals(2.5, Parsers.parseDoubleOrElse("x=2.5", 2, 5, 0), 0);
+        assertEquals(None.instance(), Parsers.parseDoubleOption("abc"));
+    }
+
+    @Test
+    public void parseBoolean() {
+        assertEquals(Ok.of(true), Parsers.parseBoolean("TRUE"));
+        assertEquals(Ok.of(false), Parsers.parseBoolean("false"));
+        assertTrue(Parsers.parseBoolean("yes") instanceof Err<Boolean>);
+        assertEquals(Some.of(true), Parsers.parseBooleanOption("[true]", 1, 5));
+        assertTrue(Parsers.parseBooleanOrElse("1", true));
+    }
+
+    @Test
+    public void parseUuid() {
+        UUID uuid = UUID.randomUUID();
+        assertEquals(Ok.of(uuid), Parsers.parseUuid(uuid.toString()));
+        assertEquals(Ok.of(uuid), Parsers.parseUuid(uuid.toString().toUpperCase()));
+        assertTrue(Parsers.parseUuid("1-1-1-1-1") instanceof Err<UUID>);
+        assertEquals(None.instance(), Parsers.parseUuidOption(uuid.toString().replace('-', '_')));
+    }
+
+    @Test
+    public void parseEnum() {
+        assertEquals(Ok.of(Color.GREEN), Parsers.parseEnum(Color.class, "GREEN"));
+        assertError("Cannot parse 'green' as Color: no such constant", Parsers.parseEnum(Color.class, "green"));
+        assertEquals(Some.of(Color.RED), Parsers.parseEnumOption(Color.class, "RED,GREEN", 0, 3));
+    }
+
+    @Test
+    public void parseLocalDate() {
+        assertEquals(Ok.of(LocalDate.of(2024, 2, 29)), Parsers.parseLocalDate("2024-02-29"));
+        assertTrue(Parsers.parseLocalDate("2023-02-29") instanceof Err<LocalDate>);
+        assertTrue(Parsers.parseLocalDate("2023-13-01") instanceof Err<LocalDate>);
+        assertTrue(Parsers.parseLocalDate("2023-1-01") instanceof Err<LocalDate>);
+        assertEquals(Some.of(LocalDate.of(1999, 12, 31)), Parsers.parseLocalDateOption("on 1999-12-31", 3, 13));
+    }
+
+    private static void assertError(String message, Result<?> result) {
+        assertTrue(result instanceof Err<?> err && err.getError() instanceof ParseException);
+        ParseException error = (ParseException) ((Err<?>) result).getError();
+        assertEquals(message, error.getMessage());
+        //Stackless
+        assertEquals(0, error.getStackTrace().length);
+    }
+}
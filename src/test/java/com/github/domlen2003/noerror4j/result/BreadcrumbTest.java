@@ -0,0 +1,100 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class BreadcrumbTest {
+
+    @Test
+    public void okIsUntouched() {
+        Result<String> ok = Ok.of("Some String");
+        assertSame(ok, ok.context("step"));
+        assertSame(ok, ok.context("step", "key", "value"));
+        assertSame(ok, ok.context("step", "a", 1, "b", 2));
+    }
+
+    @Test
+    public void breadcrumbsPassThroughOperators() {
+        Result<Integer> result = Err.<String>of("Error")
+                .context("load-user", "id", 42)
+                .mapOk(String::length)
+                .context("load-order", "id", 7, "attempt", 2)
+                .flatMapOk(Ok::of)
+                .context("render");
+        assertTrue(result instanceof Err<Integer>);
+        Err<Integer> err = (Err<Integer>) result;
+        assertEquals(3, err.getBreadcrumbs().size());
+        assertEquals("load-user", err.getBreadcrumbs().get(0).getStep());
+        assertEquals("load-user{id=42} > load-order{id=7, attempt=2} > render", err.renderContext());
+    }
+
+    @Test
+    public void lazyRendering() {
+        AtomicInteger rendered = new AtomicInteger();
+        Supplier<String> expensive = () -> "value" + rendered.incrementAndGet();
+        Err<String> err = (Err<String>) Err.<String>of("Error").context("step", "key", expensive);
+        assertEquals(0, rendered.get());
+        assertEquals("step{key=value1}", err.renderContext());
+        assertEquals(1, rendered.get());
+        //Odd argument count
+        Err<String> odd = (Err<String>) Err.<String>of("Error").context("step", "a", 1, "b");
+        assertEquals("step{a=1, b=?}", odd.renderContext());
+        //No context
+        assertEquals("", ((Err<String>) Err.<String>of("Error")).renderContext());
+    }
+
+    @Test
+    public void contextReachesErrorSink() {
+        String[] sunk = new String[1];
+        Result.setErrorSink((message, error) -> sunk[0] = message);
+        Result<String> err = Err.<String>of("Error").context("load-user", "id", 42);
+        assertEquals("fallback", err.getOrElse("fallback"));
+        assertTrue(sunk[0], sunk[0].endsWith("context=load-user{id=42}"));
+        sunk[0] = null;
+        err.getOrElseGet(() -> "fallback");
+        assertTrue(sunk[0], sunk[0].contains("load-user{id=42}"));
+        sunk[0] = null;
+        err.asOption();
+        assertTrue(sunk[0], sunk[0].contains("load-user{id=42}"));
+    }
+
+    @Test
+    public void failedRecoveryKeepsContext() {
+        Result<String> err = Err.<String>of("Error").context("load-user");
+        Result<String> mapped = err.mapErr(error -> {
+            throw new IllegalStateException("Mapper failed");
+        });
+        assertTrue(mapped instanceof Err<String> failed && failed.getError() instanceof IllegalStateException
+                && failed.renderContext().equals("load-user"));
+        assertTrue(err.recover(RuntimeException.class, error -> null) instanceof Err<String> failed
+                && failed.renderContext().equals("load-user"));
+    }
+
+    @Test
+    public void failedRecoveryTableKeepsContext() {
+        Result<String> err = Err.<String>of(new IllegalStateException("Error")).context("load-user");
+        Recovery<String> throwing = Recovery.<String>of().on(IllegalStateException.class, error -> {
+            throw new IllegalArgumentException("Handler failed");
+        });
+        assertTrue(err.recover(throwing) instanceof Err<String> failed && failed.getError() instanceof IllegalArgumentException
+                && failed.renderContext().equals("load-user"));
+        //A handler returning null fails like a throwing one
+        assertTrue(err.recover(Recovery.<String>of().on(IllegalStateException.class, error -> null)) instanceof Err<String> failed
+                && failed.getError() instanceof NullPointerException && failed.renderContext().equals("load-user"));
+        //Applied without an Err, there are no breadcrumbs to keep
+        assertTrue(throwing.apply(new IllegalStateException("Error")) instanceof Err<String> failed
+                && failed.getError() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void argumentsAreCopied() {
+        Object[] keyValues = {"id", 42};
+        Err<String> err = (Err<String>) Err.<String>of("Error").context("step", keyValues);
+        keyValues[1] = 7;
+        assertEquals("step{id=42}", err.renderContext());
+    }
+}
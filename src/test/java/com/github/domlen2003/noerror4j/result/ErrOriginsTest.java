@@ -0,0 +1,87 @@
+package com.github.domlen2003.noerror4j.result;
+
+import com.github.domlen2003.sample.OrderService;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ErrOriginsTest {
+    private final OrderService orders = new OrderService();
+
+    @After
+    public void tearDown() {
+        ErrOrigins.disable();
+    }
+
+    @Test
+    public void disabled() {
+        Err.of("Error");
+        assertFalse(ErrOrigins.isEnabled());
+        assertTrue(ErrOrigins.getHistogram().isEmpty());
+        assertEquals(0, ErrOrigins.getOverflowCount());
+    }
+
+    @Test
+    public void recordsCallSites() {
+        ErrOrigins.enable(1, 1, 16);
+        for (int i = 0; i < 3; i++) {
+            orders.load();
+        }
+        orders.save();
+        Map<String, Long> histogram = ErrOrigins.getHistogram();
+        assertEquals(2, histogram.size());
+        Map.Entry<String, Long> hottest = histogram.entrySet().iterator().next();
+        //Frames of the library packages are skipped, the call site is the application
+        assertTrue(hottest.getKey(), hottest.getKey().startsWith(OrderService.class.getName() + ".load("));
+        assertEquals(Long.valueOf(3), hottest.getValue());
+    }
+
+    @Test
+    public void propagationIsNotCounted() {
+        ErrOrigins.enable(1, 2, 16);
+        Result<String> result = orders.load();
+        result.mapOk(String::length).flatMapOk(Ok::of).context("step");
+        assertEquals(1, ErrOrigins.getHistogram().size());
+        assertTrue(ErrOrigins.getHistogram().keySet().iterator().next().contains(" <- "));
+    }
+
+    @Test
+    public void boundedSites() {
+        ErrOrigins.enable(1, 1, 1);
+        orders.load();
+        orders.save();
+        orders.save();
+        assertEquals(1, ErrOrigins.getHistogram().size());
+        assertEquals(2, ErrOrigins.getOverflowCount());
+    }
+
+    @Test
+    public void boundedSitesUnderConcurrency() throws InterruptedException {
+        ErrOrigins.enable(1, 1, 1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (i % 2 == 0) {
+                        orders.load();
+                    } else {
+                        orders.save();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, ErrOrigins.getHistogram().size());
+        long counted = ErrOrigins.getHistogram().values().iterator().next();
+        assertEquals(4_000, counted + ErrOrigins.getOverflowCount());
+    }
+}
@@ -1,4 +1,54 @@
 package com.github.domlen2003.noerror4j.result;
 
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
 public class ErrTest {
+    @Before
+    public void setUp() {
+        Result.setErrorSink((msg, err) -> {
+        });
+    }
+
+    @Test
+    public void fold() {
+        Result<String> err = Err.of("Error");
+        assertEquals("Error", err.fold(value -> value + "!", Throwable::getMessage));
+        assertEquals(-1, err.foldToInt(String::length, error -> -1));
+        assertEquals(-1L, err.foldToLong(String::length, error -> -1L));
+    }
+
+    @Test
+    public void getOrElse() {
+        AtomicBoolean errorSunk = new AtomicBoolean(false);
+        Result.setErrorSink((msg, err) -> errorSunk.set(true));
+        Result<String> err = Err.of("Error");
+        assertEquals("Other", err.getOrElse("Other"));
+        assertTrue(errorSunk.get());
+        assertNull(err.getOrElse(null));
+        assertEquals("Other", err.getOrElseGet(() -> "Other"));
+    }
+
+    @Test
+    public void orElseThrow() {
+        RuntimeException error = new RuntimeException("Error");
+        Result<String> err = Err.of(error);
+        try {
+            err.orElseThrow();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertSame(error, e.getCause());
+        }
+        try {
+            err.orElseThrow(IllegalStateException::new);
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(error, e.getCause());
+        }
+    }
 }
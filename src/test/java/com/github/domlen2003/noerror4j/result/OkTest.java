@@ -1,4 +1,37 @@
 package com.github.domlen2003.noerror4j.result;
 
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
 public class OkTest {
+
+    @Test
+    public void fold() {
+        Result<String> ok = Ok.of("Some String");
+        assertEquals("Some String!", ok.fold(value -> value + "!", error -> "Error"));
+        assertEquals(11, ok.foldToInt(String::length, error -> -1));
+        assertEquals(11L, ok.foldToLong(String::length, error -> -1L));
+    }
+
+    @Test
+    public void getOrElse() {
+        Result<String> ok = Ok.of("Some String");
+        assertEquals("Some String", ok.getOrElse("Other"));
+        AtomicBoolean called = new AtomicBoolean(false);
+        assertEquals("Some String", ok.getOrElseGet(() -> {
+            called.set(true);
+            return "Other";
+        }));
+        assertFalse(called.get());
+    }
+
+    @Test
+    public void orElseThrow() {
+        Result<String> ok = Ok.of("Some String");
+        assertEquals("Some String", ok.orElseThrow());
+        assertEquals("Some String", ok.orElseThrow(IllegalStateException::new));
+    }
 }
@@ -0,0 +1,60 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.Assert.*;
+
+public class RecoveryTest {
+    private static final Recovery<String> RECOVERY = Recovery.<String>of()
+            .on(IOException.class, e -> "io")
+            .on(FileNotFoundException.class, e -> "not found")
+            .onFlat(IllegalStateException.class, e -> Err.of("wrapped", e));
+
+    @Test
+    public void mostSpecificHandler() {
+        assertEquals(Ok.of("not found"), Err.<String>of(new FileNotFoundException()).recover(RECOVERY));
+        assertEquals(Ok.of("io"), Err.<String>of(new IOException()).recover(RECOVERY));
+        //Cached lookups stay correct
+        assertEquals(Ok.of("not found"), Err.<String>of(new FileNotFoundException()).recover(RECOVERY));
+        assertTrue(Err.<String>of(new IllegalStateException()).recover(RECOVERY) instanceof Err<String> err
+                && err.getError().getMessage().equals("wrapped"));
+    }
+
+    @Test
+    public void noHandler() {
+        Err<String> err = Err.of(new UncheckedIOException(new IOException()));
+        assertSame(err, err.recover(RECOVERY));
+        assertSame(err, err.recover(Recovery.of()));
+        assertEquals(err, RECOVERY.apply(err.getError()));
+    }
+
+    @Test
+    public void handlerErrors() {
+        //Throwing handler
+        RuntimeException error = new RuntimeException("Error");
+        Recovery<String> throwing = Recovery.<String>of().on(IOException.class, e -> {
+            throw error;
+        });
+        assertTrue(Err.<String>of(new IOException()).recover(throwing) instanceof Err<String> err && err.getError() == error);
+        //Null handler result
+        Recovery<String> nulls = Recovery.<String>of().on(IOException.class, e -> null);
+        assertTrue(Err.<String>of(new IOException()).recover(nulls) instanceof Err<String> err && err.getError() instanceof NullPointerException);
+        //Null recovery
+        assertTrue(Err.<String>of(new IOException()).recover(null) instanceof Err<String> err && err.getError() instanceof NullPointerException);
+    }
+
+    @Test
+    public void recoverByClass() {
+        assertEquals(Ok.of("io"), Err.<String>of(new FileNotFoundException()).recover(IOException.class, e -> "io"));
+        Err<String> err = Err.of(new IllegalStateException());
+        assertSame(err, err.recover(IOException.class, e -> "io"));
+        //Ok is untouched
+        Result<String> ok = Ok.of("Some String");
+        assertSame(ok, ok.recover(IOException.class, e -> "io"));
+        assertSame(ok, ok.recover(RECOVERY));
+    }
+}
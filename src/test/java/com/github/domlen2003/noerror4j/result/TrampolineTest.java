@@ -0,0 +1,68 @@
+package com.github.domlen2003.noerror4j.result;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TrampolineTest {
+
+    private static Trampoline<Long> sum(long n, long acc) {
+        if (n == 0) {
+            return Trampoline.ok(acc);
+        }
+        return Trampoline.suspend(() -> sum(n - 1, acc + n));
+    }
+
+    private static Trampoline<Long> countDown(long n) {
+        if (n == 0) {
+            return Trampoline.ok(0L);
+        }
+        return Trampoline.<Long>suspend(() -> countDown(n - 1)).mapOk(value -> value + 1);
+    }
+
+    @Test
+    public void done() {
+        assertEquals(Ok.of("Some String"), Trampoline.done(Ok.of("Some String")).run());
+        assertTrue(Trampoline.done(null).run() instanceof Err<Object>);
+        assertTrue(Trampoline.ok(null).run() instanceof Err<Object>);
+    }
+
+    @Test
+    public void deepTailRecursion() {
+        assertEquals(Ok.of(500_000_500_000L), sum(1_000_000, 0).run());
+    }
+
+    @Test
+    public void deepNonTailRecursion() {
+        assertEquals(Ok.of(1_000_000L), countDown(1_000_000).run());
+    }
+
+    @Test
+    public void deepLeftNestedChain() {
+        Trampoline<Integer> chain = Trampoline.ok(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            chain = chain.flatMapOk(value -> Trampoline.ok(value + 1));
+        }
+        assertEquals(Ok.of(1_000_000), chain.run());
+    }
+
+    @Test
+    public void errShortCircuits() {
+        //Thrown error
+        RuntimeException error = new RuntimeException("Error");
+        Result<Integer> result = Trampoline.ok(1)
+                .<Integer>flatMapOk(value -> {
+                    throw error;
+                })
+                .<Integer>mapOk(value -> {
+                    throw new AssertionError("Must not be called");
+                })
+                .run();
+        assertTrue(result instanceof Err<Integer> err && err.getError() == error);
+        //Null step
+        assertTrue(Trampoline.ok(1).flatMapOk(value -> null).run() instanceof Err<Object>);
+        assertTrue(Trampoline.suspend(() -> null).run() instanceof Err<Object>);
+        //Null mapper
+        assertTrue(Trampoline.ok(1).flatMapOk(null).run() instanceof Err<Object>);
+    }
+}
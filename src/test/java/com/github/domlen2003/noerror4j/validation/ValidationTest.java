@@ -0,0 +1,110 @@
+package com.github.domlen2003.noerror4j.validation;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Ok;
+import com.github.domlen2003.noerror4j.result.Result;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ValidationTest {
+
+    @Test
+    public void instantiation() {
+        //Null value
+        Validation<String> nullValue = Valid.of(null);
+        assertTrue(nullValue instanceof Invalid<String>);
+        //Valid value
+        Validation<String> valid = Valid.of("Some String");
+        assertTrue(valid instanceof Valid<String> v && v.getValue().equals("Some String"));
+        assertTrue(valid.isValid());
+        //Invalid
+        Validation<String> invalid = Invalid.of("Error");
+        assertFalse(invalid.isValid());
+    }
+
+    @Test
+    public void combine() {
+        //All valid
+        Validation<String> combined = Validation.combine(Valid.of("a"), Valid.of(1), (a, b) -> a + b);
+        assertEquals(Valid.of("a1"), combined);
+        //Null combiner
+        combined = Validation.combine(Valid.of("a"), Valid.of(1), null);
+        assertTrue(combined instanceof Invalid<String>);
+        //Error combiner
+        combined = Validation.combine(Valid.of("a"), Valid.of(1), (a, b) -> {
+            throw new RuntimeException("Error");
+        });
+        assertTrue(combined instanceof Invalid<String> invalid && invalid.getErrorCount() == 1);
+        //Accumulates all errors in order
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException third = new RuntimeException("third");
+        Validation<String> accumulated = Validation.combine(
+                Invalid.<String>of(first),
+                Valid.of(2),
+                Invalid.<Integer>of(third),
+                (a, b, c) -> a + b + c
+        );
+        assertTrue(accumulated instanceof Invalid<String>);
+        assertEquals(List.of(first, third), ((Invalid<String>) accumulated).getErrors());
+    }
+
+    @Test
+    public void combineNested() {
+        Validation<String> left = Validation.combine(Invalid.of("a"), Invalid.<String>of("b"), (a, b) -> a + b);
+        Validation<String> right = Validation.combine(Invalid.of("c"), Valid.of("d"), Invalid.of("e"), Valid.of("f"), (a, b, c, d) -> a + b + c + d);
+        Validation<String> all = Validation.combine(left, right, (a, b) -> a + b);
+        assertTrue(all instanceof Invalid<String>);
+        List<String> messages = new ArrayList<>();
+        for (Throwable error : ((Invalid<String>) all).getErrors()) {
+            messages.add(error.getMessage());
+        }
+        assertEquals(List.of("a", "b", "c", "e"), messages);
+    }
+
+    @Test
+    public void sequence() {
+        //All valid
+        Validation<List<Integer>> valid = Validation.sequence(List.of(Valid.of(1), Valid.of(2), Valid.of(3)));
+        assertEquals(Valid.of(List.of(1, 2, 3)), valid);
+        //Many errors do not overflow the stack
+        List<Validation<Integer>> validations = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            validations.add(i % 2 == 0 ? Invalid.of("Error " + i) : Valid.of(i));
+        }
+        Validation<List<Integer>> invalid = Validation.sequence(validations);
+        assertTrue(invalid instanceof Invalid<List<Integer>> errors && errors.getErrors().size() == 50_000);
+        //Iterables that can only be traversed once
+        Stream<Validation<Integer>> valids = Stream.of(Valid.of(1), Valid.of(2));
+        assertEquals(Valid.of(List.of(1, 2)), Validation.sequence(valids::iterator));
+        Stream<Validation<Integer>> mixed = Stream.of(Valid.of(1), Invalid.of("Error"), Invalid.of("Other"));
+        assertTrue(Validation.sequence(mixed::iterator) instanceof Invalid<List<Integer>> errors && errors.getErrors().size() == 2);
+    }
+
+    @Test
+    public void mapValid() {
+        assertEquals(Valid.of(2), Valid.of(1).mapValid(value -> value + 1));
+        assertTrue(Valid.of(1).mapValid(value -> null) instanceof Invalid<Object>);
+        assertTrue(Invalid.<Integer>of("Error").mapValid(value -> value + 1) instanceof Invalid<Integer>);
+    }
+
+    @Test
+    public void results() {
+        //From Ok
+        assertEquals(Valid.of("Some String"), Validation.fromResult(Ok.of("Some String")));
+        //From Err
+        assertTrue(Validation.fromResult(Err.of("Error")) instanceof Invalid<Object>);
+        //To Ok
+        assertTrue(Valid.of("Some String").toResult() instanceof Ok<String>);
+        //To Err
+        Result<String> result = Validation.combine(Invalid.of("a"), Invalid.<String>of("b"), (a, b) -> a + b).toResult();
+        assertTrue(result instanceof Err<String> err
+                && err.getError() instanceof ValidationException exception
+                && exception.getErrors().size() == 2
+                && exception.getSuppressed().length == 2);
+    }
+}
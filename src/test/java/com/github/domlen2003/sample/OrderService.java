@@ -0,0 +1,18 @@
+package com.github.domlen2003.sample;
+
+import com.github.domlen2003.noerror4j.result.Err;
+import com.github.domlen2003.noerror4j.result.Result;
+
+/**
+ * Application code outside the library packages, whose frames are not skipped as library frames
+ */
+public final class OrderService {
+
+    public Result<String> load() {
+        return Err.of("Not found");
+    }
+
+    public Result<String> save() {
+        return Err.of("Read only");
+    }
+}